@@ -0,0 +1,52 @@
+package com.bitebook.Config;
+
+import com.bitebook.Services.CacheInvalidationBus;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * A Caffeine cache that tells the other nodes about every change they must not miss. put replaces a value
+ * (@CachePut, a write), so other nodes drop theirs; putIfAbsent fills a miss, stays local, and is what the
+ * read paths use. Evictions and clears are passed on whether or not this node held the entry.
+ */
+public class BroadcastingCaffeineCache extends CaffeineCache {
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public BroadcastingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                     boolean allowNullValues, CacheInvalidationBus invalidationBus) {
+        super(name, cache, allowNullValues);
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        invalidationBus.evicted(getName(), key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        invalidationBus.evicted(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        invalidationBus.evicted(getName(), key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        invalidationBus.cleared(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = super.invalidate();
+        invalidationBus.cleared(getName());
+        return present;
+    }
+}
@@ -1,22 +1,35 @@
 package com.bitebook.Config;
 
+import com.bitebook.Services.CacheInvalidationBus;
+import org.springframework.cache.Cache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CacheConfig {
 
     @Bean
-    public CaffeineCacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CaffeineCacheManager cacheManager(CacheInvalidationBus invalidationBus) {
+        // Each node keeps its own caches; changes reach the other nodes through the invalidation bus
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                invalidationBus.register(name, cache);
+                return new BroadcastingCaffeineCache(name, cache, isAllowNullValues(), invalidationBus);
+            }
+        };
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(10, TimeUnit.MINUTES)
                 .initialCapacity(100)
-                .maximumSize(500));
+                .maximumSize(500)
+                .recordStats());
+        // Declared up front so Actuator finds and binds them at startup; lazily created caches go unmeasured
+        cacheManager.setCacheNames(List.of("places", "feedOpenAt"));
         return cacheManager;
     }
 }
@@ -0,0 +1,38 @@
+package com.bitebook.Config;
+
+import com.bitebook.Proxies.LoopbackCacheInvalidationTransport;
+import com.bitebook.Proxies.PostgresCacheInvalidationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+// cache.invalidation.transport picks how nodes tell each other about cache changes; with none they do not
+@Configuration
+public class CacheInvalidationConfig {
+
+    // Default: LISTEN/NOTIFY on the application database, so every node sharing it hears every other
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "postgres", matchIfMissing = true)
+    public PostgresCacheInvalidationTransport postgresCacheInvalidationTransport(
+            JdbcTemplate jdbcTemplate,
+            @Value("${cache.invalidation.postgres.url:${spring.datasource.url}}") String url,
+            @Value("${cache.invalidation.postgres.username:${spring.datasource.username}}") String username,
+            @Value("${cache.invalidation.postgres.password:${spring.datasource.password}}") String password,
+            @Value("${cache.invalidation.postgres.channel:bitebook_cache}") String channel,
+            @Value("${cache.invalidation.postgres.poll-interval:PT30S}") Duration pollInterval,
+            @Value("${cache.invalidation.postgres.reconnect-backoff:PT5S}") Duration reconnectBackoff) {
+        return new PostgresCacheInvalidationTransport(jdbcTemplate, url, username, password, channel,
+                pollInterval, reconnectBackoff);
+    }
+
+    // Nodes in one JVM only: tests and single-node runs that have no Postgres
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "loopback")
+    public LoopbackCacheInvalidationTransport loopbackCacheInvalidationTransport() {
+        return new LoopbackCacheInvalidationTransport();
+    }
+}
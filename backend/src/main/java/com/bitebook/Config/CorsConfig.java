@@ -7,8 +7,11 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
+import com.bitebook.Controllers.FeedController;
 import com.bitebook.Services.ParameterStoreService;
 
+import java.util.Map;
+
 @Configuration
 public class CorsConfig {
 
@@ -18,14 +21,14 @@ public class CorsConfig {
     @Bean
     public CorsFilter corsFilter() {
 
-        String localhostUrl = parameterStoreService.getSecret("LocalHostURL");
-        String prodUrl = parameterStoreService.getSecret("BitebookProd");
+        Map<String, String> origins = parameterStoreService.getSecrets("LocalHostURL", "BitebookProd");
         CorsConfiguration config = new CorsConfiguration();
-        config.addAllowedOrigin(localhostUrl);
-        config.addAllowedOrigin(prodUrl);
+        config.addAllowedOrigin(origins.get("LocalHostURL"));
+        config.addAllowedOrigin(origins.get("BitebookProd"));
         config.addAllowedOrigin("http://3.107.47.27/");
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        config.addExposedHeader(FeedController.NEXT_CURSOR_HEADER);
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
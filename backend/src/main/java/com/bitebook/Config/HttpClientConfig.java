@@ -1,18 +1,100 @@
 package com.bitebook.Config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class HttpClientConfig {
+
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory requestFactory) {
+        return new RestTemplate(requestFactory);
+    }
+
+    // Default: pooled Apache client over HTTP/1.1. Connections are kept alive and reused, and every new
+    // connection shares one SSLContext, so its session cache lets TLS resume instead of doing a full handshake.
+    @Configuration
+    @ConditionalOnProperty(name = "google.places.http.version", havingValue = "HTTP_1_1", matchIfMissing = true)
+    static class PooledClientConfig {
+
+        @Bean
+        public InstrumentedConnectionManager googleConnectionManager(
+                MeterRegistry meterRegistry,
+                @Value("${google.places.http.max-total:50}") int maxTotal,
+                @Value("${google.places.http.max-per-route:20}") int maxPerRoute,
+                @Value("${google.places.http.connect-timeout:3s}") Duration connectTimeout,
+                @Value("${google.places.http.read-timeout:5s}") Duration readTimeout,
+                @Value("${google.places.http.validate-after-inactivity:2s}") Duration validateAfterInactivity) {
+            InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(meterRegistry);
+            connectionManager.setMaxTotal(maxTotal);
+            connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+            connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(connectTimeout))
+                    .setSocketTimeout(Timeout.of(readTimeout))
+                    .setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+                    .build());
+            return connectionManager;
+        }
+
+        @Bean(destroyMethod = "close")
+        public CloseableHttpClient googleHttpClient(
+                InstrumentedConnectionManager googleConnectionManager,
+                @Value("${google.places.http.lease-timeout:2s}") Duration leaseTimeout,
+                @Value("${google.places.http.read-timeout:5s}") Duration readTimeout,
+                @Value("${google.places.http.keep-alive:60s}") Duration keepAlive,
+                @Value("${google.places.http.idle-eviction:30s}") Duration idleEviction) {
+            return HttpClients.custom()
+                    .setConnectionManager(googleConnectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.of(leaseTimeout))
+                            .setResponseTimeout(Timeout.of(readTimeout))
+                            .build())
+                    .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.of(idleEviction))
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory googleRequestFactory(CloseableHttpClient googleHttpClient) {
+            return new HttpComponentsClientHttpRequestFactory(googleHttpClient);
+        }
+    }
+
+    // Opt-in: the JDK HttpClient negotiates HTTP/2 over ALPN and multiplexes calls onto one connection per host.
+    // In virtual-thread mode its response handling runs on virtual threads instead of a cached platform pool.
     @Bean
-    public RestTemplate restTemplate() {
-        // Use the JDK-based client (HttpURLConnection) to avoid requiring Apache HttpClient on the classpath.
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3_000);
-        factory.setReadTimeout(5_000);
-        return new RestTemplate(factory);
+    @ConditionalOnProperty(name = "google.places.http.version", havingValue = "HTTP_2")
+    public ClientHttpRequestFactory jdkRequestFactory(
+            @Value("${google.places.http.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${google.places.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout);
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        HttpClient httpClient = builder.build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+        return factory;
     }
 }
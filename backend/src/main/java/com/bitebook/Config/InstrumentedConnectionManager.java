@@ -0,0 +1,92 @@
+package com.bitebook.Config;
+
+import com.bitebook.Models.HttpPoolStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+// Connection pool that also records how long callers wait to lease a connection, both for /admin/http-pool
+// and as google.places.http.* meters beside the other outbound Google metrics
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseTimeouts = new LongAdder();
+    private final LongAdder totalLeaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final Timer leaseWait;
+    private final Timer leaseWaitTimedOut;
+
+    public InstrumentedConnectionManager(MeterRegistry meterRegistry) {
+        leaseWait = meterRegistry.timer("google.places.http.lease.wait", "outcome", "success");
+        leaseWaitTimedOut = meterRegistry.timer("google.places.http.lease.wait", "outcome", "timeout");
+        gauge(meterRegistry, "leased", PoolStats::getLeased);
+        gauge(meterRegistry, "available", PoolStats::getAvailable);
+        gauge(meterRegistry, "pending", PoolStats::getPending);
+        gauge(meterRegistry, "max", PoolStats::getMax);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        long requestedAt = System.nanoTime();
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                try {
+                    ConnectionEndpoint endpoint = delegate.get(timeout);
+                    recordLease(System.nanoTime() - requestedAt);
+                    return endpoint;
+                } catch (TimeoutException ex) {
+                    leaseTimeouts.increment();
+                    leaseWaitTimedOut.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+                    throw ex;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    public HttpPoolStats getPoolStats() {
+        PoolStats stats = getTotalStats();
+        long count = leases.sum();
+        return new HttpPoolStats(
+                stats.getLeased(),
+                stats.getAvailable(),
+                stats.getPending(),
+                stats.getMax(),
+                count,
+                leaseTimeouts.sum(),
+                count == 0 ? 0 : totalLeaseWaitNanos.sum() / count / 1_000,
+                maxLeaseWaitNanos.get() / 1_000);
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String state, ToIntFunction<PoolStats> value) {
+        Gauge.builder("google.places.http.pool.connections", this, manager -> value.applyAsInt(manager.getTotalStats()))
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private void recordLease(long waitNanos) {
+        leaseWait.record(waitNanos, TimeUnit.NANOSECONDS);
+        leases.increment();
+        totalLeaseWaitNanos.add(waitNanos);
+        maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+}
@@ -0,0 +1,120 @@
+package com.bitebook.Config;
+
+import com.bitebook.Interfaces.SecretSource;
+import com.bitebook.Proxies.FileSecretSource;
+import com.bitebook.Proxies.SsmSecretSource;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import software.amazon.awssdk.regions.Region;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Loads the parameters named in bitebook.secrets.names before the context starts, so they can fill
+ * placeholders such as ${NeonDbPassword}. A fresh encrypted snapshot is used as-is and refreshed once the
+ * app is ready; otherwise the provider is called once for all names, and a stale snapshot is only the
+ * fallback when that call fails. Anything already set in the environment is left alone.
+ */
+public class ParameterStoreEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String DEFAULT_NAMES = "GoogleMapsApiKey,NeonDbPassword,LocalHostURL,BitebookProd";
+
+    private final Log logger;
+
+    public ParameterStoreEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.logger = logFactory.getLog(ParameterStoreEnvironmentPostProcessor.class);
+    }
+
+    // After application.properties has been read, which is where the settings below live
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String provider = environment.getProperty("bitebook.secrets.provider", "ssm");
+        if (provider.equalsIgnoreCase("none")) {
+            return;
+        }
+        List<String> names = Arrays.stream(environment.getProperty("bitebook.secrets.names", DEFAULT_NAMES).split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty() && !environment.containsProperty(name))
+                .toList();
+        SecretSource source = secretSource(provider, environment);
+        SecretSnapshot snapshot = snapshot(environment);
+        Duration maxAge = DurationStyle.detectAndParse(environment.getProperty("bitebook.secrets.snapshot.max-age", "P7D"));
+
+        SecretSnapshot.Contents saved = null;
+        if (snapshot != null) {
+            try {
+                saved = snapshot.read().filter(contents -> contents.covers(names)).orElse(null);
+            } catch (RuntimeException ex) {
+                logger.warn("Ignoring unreadable parameter snapshot " + snapshot.getPath(), ex);
+            }
+        }
+
+        Map<String, String> values;
+        boolean fromSnapshot = false;
+        if (names.isEmpty()) {
+            values = Map.of();
+        } else if (saved != null && saved.age().compareTo(maxAge) <= 0) {
+            values = saved.values();
+            fromSnapshot = true;
+            logger.info("Loaded " + names.size() + " parameters from snapshot saved at " + saved.savedAt());
+        } else {
+            try {
+                values = source.fetch(names);
+                logger.info("Loaded " + names.size() + " parameters from " + provider);
+                save(snapshot, values);
+            } catch (RuntimeException ex) {
+                if (saved == null) {
+                    throw new IllegalStateException("Could not load parameters " + names + " from " + provider, ex);
+                }
+                logger.warn("Could not load parameters from " + provider + ", starting from snapshot saved at "
+                        + saved.savedAt(), ex);
+                values = saved.values();
+                fromSnapshot = true;
+            }
+        }
+        environment.getPropertySources().addLast(new ParameterStorePropertySource(values, names, source, snapshot, fromSnapshot));
+    }
+
+    private static SecretSource secretSource(String provider, ConfigurableEnvironment environment) {
+        return switch (provider.toLowerCase(Locale.ROOT)) {
+            case "ssm" -> new SsmSecretSource(Region.of(environment.getProperty("bitebook.secrets.region", "ap-southeast-2")));
+            case "file" -> new FileSecretSource(Path.of(environment.getRequiredProperty("bitebook.secrets.file")));
+            default -> throw new IllegalArgumentException("Unknown bitebook.secrets.provider: " + provider);
+        };
+    }
+
+    // Snapshots are only kept when a key is configured; secrets are never written to disk in the clear
+    private static SecretSnapshot snapshot(ConfigurableEnvironment environment) {
+        String key = environment.getProperty("bitebook.secrets.snapshot.key");
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        String path = environment.getProperty("bitebook.secrets.snapshot.path",
+                Path.of(System.getProperty("user.home"), ".bitebook", "parameters.snapshot").toString());
+        return new SecretSnapshot(Path.of(path), Base64.getDecoder().decode(key.trim()));
+    }
+
+    private void save(SecretSnapshot snapshot, Map<String, String> values) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            snapshot.write(values);
+        } catch (RuntimeException ex) {
+            logger.warn("Could not save parameter snapshot " + snapshot.getPath(), ex);
+        }
+    }
+}
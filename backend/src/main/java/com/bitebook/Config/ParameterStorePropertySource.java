@@ -0,0 +1,52 @@
+package com.bitebook.Config;
+
+import com.bitebook.Interfaces.SecretSource;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parameters loaded before the context starts, along with where they came from, so
+ * ParameterStoreService can refresh them in place once the app is up.
+ */
+public class ParameterStorePropertySource extends MapPropertySource {
+
+    public static final String NAME = "parameterStore";
+
+    private final List<String> names;
+    private final SecretSource secretSource;
+    private final SecretSnapshot snapshot;
+    private final boolean fromSnapshot;
+
+    public ParameterStorePropertySource(Map<String, String> values, List<String> names, SecretSource secretSource,
+                                        SecretSnapshot snapshot, boolean fromSnapshot) {
+        super(NAME, new ConcurrentHashMap<>(values));
+        this.names = names;
+        this.secretSource = secretSource;
+        this.snapshot = snapshot;
+        this.fromSnapshot = fromSnapshot;
+    }
+
+    public void put(String name, String value) {
+        getSource().put(name, value);
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public SecretSource getSecretSource() {
+        return secretSource;
+    }
+
+    // Null when no snapshot key is configured
+    public SecretSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public boolean isFromSnapshot() {
+        return fromSnapshot;
+    }
+}
@@ -0,0 +1,131 @@
+package com.bitebook.Config;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Last known parameter values on local disk, sealed with AES-256-GCM so the file is useless without the
+ * key held in the environment. Layout: format byte, saved-at millis, IV, then the encrypted properties;
+ * the format byte and timestamp are authenticated too, so an old snapshot cannot be passed off as fresh.
+ */
+public class SecretSnapshot {
+
+    private static final byte FORMAT = 1;
+    private static final int HEADER_BYTES = 1 + Long.BYTES;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Path path;
+    private final SecretKeySpec key;
+
+    public SecretSnapshot(Path path, byte[] key) {
+        if (key.length != 32) {
+            throw new IllegalArgumentException("Snapshot key must be 32 bytes, got " + key.length);
+        }
+        this.path = path;
+        this.key = new SecretKeySpec(key, "AES");
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // Empty when there is no snapshot yet; a snapshot that fails to decrypt is an error, not an empty one
+    public Optional<Contents> read() {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            byte format = buffer.get();
+            if (format != FORMAT) {
+                throw new IllegalStateException("Unknown snapshot format " + format + " in " + path);
+            }
+            Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+            byte[] iv = new byte[IV_BYTES];
+            buffer.get(iv);
+            byte[] sealed = new byte[buffer.remaining()];
+            buffer.get(sealed);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(buffer.array(), 0, HEADER_BYTES);
+            Properties properties = new Properties();
+            properties.load(new StringReader(new String(cipher.doFinal(sealed), StandardCharsets.UTF_8)));
+
+            Map<String, String> values = new HashMap<>();
+            properties.stringPropertyNames().forEach(name -> values.put(name, properties.getProperty(name)));
+            return Optional.of(new Contents(savedAt, values));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read snapshot " + path, ex);
+        } catch (GeneralSecurityException | RuntimeException ex) {
+            throw new IllegalStateException("Could not decrypt snapshot " + path, ex);
+        }
+    }
+
+    // Written to a sibling file and moved into place, so a crash never leaves half a snapshot behind
+    public void write(Map<String, String> values) {
+        try {
+            Properties properties = new Properties();
+            properties.putAll(values);
+            StringWriter plain = new StringWriter();
+            properties.store(plain, null);
+
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(iv);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).put(FORMAT).putLong(Instant.now().toEpochMilli());
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(header.array());
+            byte[] sealed = cipher.doFinal(plain.toString().getBytes(StandardCharsets.UTF_8));
+
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                restrictToOwner(temp);
+                Files.write(temp, ByteBuffer.allocate(HEADER_BYTES + IV_BYTES + sealed.length)
+                        .put(header.array()).put(iv).put(sealed).array());
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write snapshot " + path, ex);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Could not encrypt snapshot " + path, ex);
+        }
+    }
+
+    private static void restrictToOwner(Path file) throws IOException {
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        }
+    }
+
+    public record Contents(Instant savedAt, Map<String, String> values) {
+
+        public boolean covers(Collection<String> names) {
+            return values.keySet().containsAll(names);
+        }
+
+        public Duration age() {
+            return Duration.between(savedAt, Instant.now());
+        }
+    }
+}
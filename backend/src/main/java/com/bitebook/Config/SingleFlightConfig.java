@@ -0,0 +1,28 @@
+package com.bitebook.Config;
+
+import com.bitebook.Models.CachedPlaceDetails;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceDetailsListResponse;
+import com.bitebook.Services.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<String, CachedPlaceDetails> placeDetailsFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<String, CachedPlaceDetails>("placeDetails").bindTo(meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<String, PlaceDetailsListResponse> placeSearchFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<String, PlaceDetailsListResponse>("placeSearch").bindTo(meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<String, Place> placeLoadFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<String, Place>("placeLoad").bindTo(meterRegistry);
+    }
+}
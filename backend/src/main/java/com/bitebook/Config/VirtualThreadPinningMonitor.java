@@ -0,0 +1,101 @@
+package com.bitebook.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR jdk.VirtualThreadPinned event while virtual threads are on. A virtual thread that blocks
+ * inside a synchronized block (or a native frame) holds its carrier, so enough of them stall every request.
+ * Each pin over the threshold is timed as jvm.threads.virtual.pinned, tagged with the first frame outside
+ * the JDK, and the first pin from each frame is logged with its stack.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        logger.info("Reporting virtual threads pinned for longer than {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String site = frames.stream()
+                .map(RecordedFrame::getMethod)
+                .filter(method -> !isJdk(method.getType().getName()))
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .findFirst()
+                .orElse("unknown");
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .tag("frame", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reported.add(site)) {
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining("\n"));
+            logger.warn("Virtual thread pinned for {} at {}\n{}", event.getDuration(), site, stack);
+        }
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+}
@@ -0,0 +1,73 @@
+package com.bitebook.Controllers;
+
+import com.bitebook.Config.InstrumentedConnectionManager;
+import com.bitebook.Models.CircuitBreakerStatus;
+import com.bitebook.Models.EnrichmentJobStatus;
+import com.bitebook.Models.FeedIndexStats;
+import com.bitebook.Models.HttpPoolStats;
+import com.bitebook.Models.SingleFlightStats;
+import com.bitebook.Proxies.ResilientGooglePlacesApiClient;
+import com.bitebook.Services.BulkEnrichmentService;
+import com.bitebook.Services.FeedService;
+import com.bitebook.Services.SingleFlight;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private BulkEnrichmentService bulkEnrichmentService;
+
+    @Autowired
+    private ObjectProvider<InstrumentedConnectionManager> connectionManagerProvider;
+
+    @Autowired
+    private List<SingleFlight<?, ?>> singleFlights;
+
+    @Autowired
+    private ResilientGooglePlacesApiClient resilientGoogleClient;
+
+    // Re-resolves the given places (or every place when the body is empty) against Google in the background
+    @PostMapping("/enrichment")
+    public EnrichmentJobStatus StartEnrichment(@RequestBody(required = false) List<String> placeIds) {
+        return feedService.UpdateDb(placeIds);
+    }
+
+    @GetMapping("/enrichment")
+    public EnrichmentJobStatus GetEnrichmentStatus() {
+        return bulkEnrichmentService.GetStatus();
+    }
+
+    // Only available with the pooled HTTP/1.1 client; the JDK HTTP/2 client manages its connections internally
+    @GetMapping("/http-pool")
+    public ResponseEntity<HttpPoolStats> GetHttpPoolStats() {
+        InstrumentedConnectionManager connectionManager = connectionManagerProvider.getIfAvailable();
+        return connectionManager == null
+                ? ResponseEntity.notFound().build()
+                : ResponseEntity.ok(connectionManager.getPoolStats());
+    }
+
+    @GetMapping("/google-circuit")
+    public CircuitBreakerStatus GetGoogleCircuitStatus() {
+        return resilientGoogleClient.getStatus();
+    }
+
+    @GetMapping("/single-flight")
+    public List<SingleFlightStats> GetSingleFlightStats() {
+        return singleFlights.stream().map(SingleFlight::getStats).toList();
+    }
+
+    @GetMapping("/feed-index")
+    public ResponseEntity<FeedIndexStats> GetFeedIndexStats() {
+        return ResponseEntity.of(feedService.GetFeedIndexStats());
+    }
+}
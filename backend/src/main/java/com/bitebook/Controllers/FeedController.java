@@ -1,32 +1,220 @@
 package com.bitebook.Controllers;
 
 import com.bitebook.Models.AddPlaceRequest;
+import com.bitebook.Models.FeedItem;
+import com.bitebook.Models.FeedPage;
+import com.bitebook.Models.NearbyPlace;
 import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceChanges;
+import com.bitebook.Models.PlaceImportResult;
+import com.bitebook.Models.PlacePatch;
+import com.bitebook.Models.PlacePatchResult;
 import com.bitebook.Models.UpdatePlaceRequest;
 import com.bitebook.Models.PlaceDetailsResponse;
 import com.bitebook.Services.FeedService;
+import com.bitebook.Services.FeedVersion;
+import com.bitebook.Services.PlaceChangesService;
+import com.bitebook.Services.PlaceEventBroadcaster;
+import com.bitebook.Services.PlacePatchService;
+import com.bitebook.Services.PlaceTransferService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/places")
 public class FeedController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int STREAM_FLUSH_EVERY = 100;
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     @Autowired
     private FeedService feedService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    @Autowired
+    private PlaceTransferService placeTransferService;
+
+    @Autowired
+    private PlacePatchService placePatchService;
+
+    @Autowired
+    private PlaceChangesService placeChangesService;
+
+    @Autowired
+    private PlaceEventBroadcaster placeEvents;
+
+    // Paging is opt-in: pass limit (and then the returned cursor) to walk the feed page by page.
+    // The body stays a plain list; the cursor for the next page travels in the X-Next-Cursor header.
+    // A matching If-None-Match is answered with 304 before the feed is read.
+    // openAt ("now" or an ISO date-time) keeps only places open at that moment.
     @GetMapping("/feed")
-    public List<Place> GetFeed(
+    public ResponseEntity<List<FeedItem>> GetFeed(
+            @RequestParam(name = "type", defaultValue = "all") String type,
+            @RequestParam(required = false) Boolean visited,
+            @RequestParam(name = "sort", defaultValue = "newest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String openAt,
+            WebRequest request) {
+        // Resolved once, so the tag and the body agree on the minute; openAt=now changes with the clock,
+        // so the minute is part of the tag
+        Integer openMinute = feedService.ResolveOpenAt(openAt);
+        // Taken before the read: a write racing with it only costs the client one extra full response
+        String etag = openMinute == null ? feedVersion.etag() : feedVersion.etag("m" + openMinute);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        FeedPage page = feedService.GetFeed(type, visited, sort, cursor, limit, openMinute);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getPlaces());
+    }
+
+    // Same filters as /feed, written one JSON object per line while rows are still being read
+    @GetMapping(value = "/feed/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> StreamFeed(
+            @RequestParam(name = "type", defaultValue = "all") String type,
+            @RequestParam(required = false) Boolean visited,
+            @RequestParam(name = "sort", defaultValue = "newest") String sort) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(ndjson(sink -> feedService.StreamFeed(type, visited, sort, sink)));
+    }
+
+    // Delta sync: without since this pages through every place; afterwards pass the returned token to get
+    // only what changed, with deleted places listed by id. Keep calling while hasMore is true.
+    @GetMapping("/changes")
+    public PlaceChanges GetChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return placeChangesService.GetChanges(since, limit);
+    }
+
+    // Server-Sent Events: "upserted" carries the place, "deleted" its id, and "reset" means refetch the feed.
+    // EventSource reconnects with Last-Event-ID by itself and picks up where it left off.
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter SubscribeToEvents(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return placeEvents.subscribe(lastEventId);
+    }
+
+    // CSV needs a header row naming the columns (name is required); NDJSON takes one /add body per line.
+    // Rejected rows are listed in the result by line number, and everything else is imported together.
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public PlaceImportResult ImportPlaces(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        PlaceTransferService.Format format = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? PlaceTransferService.Format.Ndjson
+                : PlaceTransferService.Format.Csv;
+        return placeTransferService.ImportPlaces(body, format);
+    }
+
+    // Every place, oldest first, streamed from a database cursor; both formats can be fed back to /import
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> ExportPlaces(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        Consumer<Consumer<Place>> places = sink -> feedService.StreamFeed("ALL", null, "oldest", sink);
+        if (format.equalsIgnoreCase("ndjson")) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"places.ndjson\"")
+                    .body(ndjson(places));
+        }
+        if (format.equalsIgnoreCase("csv")) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"places.csv\"")
+                    .body(out -> {
+                        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                        placeTransferService.ExportCsv(writer, places);
+                        writer.flush();
+                    });
+        }
+        throw new IllegalArgumentException("Invalid export format: " + format);
+    }
+
+    private StreamingResponseBody ndjson(Consumer<Consumer<Place>> places) {
+        ObjectWriter writer = objectMapper.writerFor(Place.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                int[] written = {0};
+                places.accept(place -> {
+                    try {
+                        writer.writeValue(generator, place);
+                        generator.writeRaw('\n');
+                        // Flush the first line straight away, then in chunks
+                        if (written[0]++ % STREAM_FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+    }
+
+    // Ranked matches on name, cuisine, location, influence and notes; tolerates prefixes and small typos
+    @GetMapping("/search")
+    public List<Place> SearchPlaces(
+            @RequestParam(name = "q") String query,
+            @RequestParam(required = false) Integer limit) {
+        return feedService.SearchPlaces(query, limit);
+    }
+
+    // radius is in metres; leave it out and pass limit for the k nearest places
+    @GetMapping("/nearby")
+    public List<NearbyPlace> GetNearbyPlaces(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) Integer limit,
             @RequestParam(name = "type", defaultValue = "all") String type,
-            @RequestParam(required = false) boolean visited) {
-        return feedService.GetFeed(type, visited);
+            @RequestParam(required = false) Boolean visited) {
+        return feedService.GetNearbyPlaces(lat, lng, radius, limit, type, visited);
     }
 
     @GetMapping("/place/{placeId}")
-    public Place GetPlace(@PathVariable String placeId) {
-        return feedService.GetPlace(placeId);
+    public ResponseEntity<Place> GetPlace(@PathVariable String placeId, WebRequest request) {
+        String etag = feedVersion.etag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        // If this read enriches the place the version moves on, and the next request gets one full response
+        Place place = feedService.GetPlace(placeId);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(place);
     }
 
     @PostMapping("/add")
@@ -41,6 +229,22 @@ public class FeedController {
         feedService.UpdatePlace(placeId, request);
     }
 
+    // Changes only the fields present in the body (null clears one). Include the version from the last read
+    // to have the patch refused with 409 Conflict if the place was edited since.
+    @PatchMapping("/place/{placeId}")
+    public Place PatchPlace(
+            @PathVariable String placeId,
+            @RequestBody PlacePatch patch) {
+        return placePatchService.PatchPlace(placeId, patch);
+    }
+
+    // Many small edits in one request, such as marking a list of places visited. Each patch names its placeId
+    // and gets its own result, so a conflicting or invalid patch does not stop the others.
+    @PatchMapping("/batch")
+    public List<PlacePatchResult> PatchPlaces(@RequestBody List<PlacePatch> patches) {
+        return placePatchService.PatchPlaces(patches);
+    }
+
     @PutMapping("/delete/{placeId}")
     public void DeletePlace(@PathVariable String placeId) {
         feedService.DeletePlace(placeId);
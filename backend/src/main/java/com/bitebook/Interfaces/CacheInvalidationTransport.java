@@ -0,0 +1,14 @@
+package com.bitebook.Interfaces;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidationTransport {
+    // Delivers the message to every listening node, possibly including the sender
+    void send(String message);
+
+    // Starts handing received messages to the receiver; onGap runs whenever messages may have been missed
+    void listen(Consumer<String> receiver, Runnable onGap);
+
+    // The largest message, in UTF-8 bytes, the transport will carry
+    int maxMessageBytes();
+}
@@ -2,8 +2,24 @@ package com.bitebook.Interfaces;
 
 import com.bitebook.Models.PlaceDetailsListResponse;
 import com.bitebook.Models.PlaceDetailsResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
 public interface GooglePlacesApiClient {
     PlaceDetailsResponse getPlaceDetails(String googlePlaceId);
     PlaceDetailsListResponse getPlaceDetailsByName(String placeName);
+
+    // Timeouts, connection failures, 5xx, 429 and an open circuit are worth retrying; anything else will fail again
+    static boolean isTransientFailure(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof GooglePlacesUnavailableException
+                    || cause instanceof ResourceAccessException
+                    || cause instanceof HttpServerErrorException
+                    || cause instanceof HttpClientErrorException.TooManyRequests) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
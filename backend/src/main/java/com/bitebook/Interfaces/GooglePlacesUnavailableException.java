@@ -0,0 +1,8 @@
+package com.bitebook.Interfaces;
+
+// Google was not called because its circuit is open or too many calls are already waiting on it
+public class GooglePlacesUnavailableException extends RuntimeException {
+    public GooglePlacesUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bitebook.Interfaces;
+
+import com.bitebook.Models.Place;
+
+import java.util.List;
+import java.util.UUID;
+
+// An in-memory view of the Places table, kept current by PlaceIndexes
+public interface PlaceIndex {
+    void upsert(Place place);
+
+    void remove(UUID placeId);
+
+    // Builds a replacement from a full read of the table without touching what readers see; running the
+    // returned action swaps it in
+    Runnable load(List<Place> places);
+}
@@ -0,0 +1,9 @@
+package com.bitebook.Interfaces;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface SecretSource {
+    // All of the named values, or an exception naming the ones the source does not have
+    Map<String, String> fetch(Collection<String> names);
+}
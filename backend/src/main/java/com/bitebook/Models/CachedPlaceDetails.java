@@ -0,0 +1,30 @@
+package com.bitebook.Models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.Date;
+
+@Entity
+@Table(name = "\"PlaceDetailsCache\"", schema = "public")
+@Getter
+@Setter
+@NoArgsConstructor
+@Access(AccessType.FIELD)
+public class CachedPlaceDetails {
+
+    @Id
+    @Column(name = "\"GooglePlaceId\"")
+    private String googlePlaceId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "\"Response\"")
+    private PlaceDetailsResponse response;
+
+    @Column(name = "\"FetchedDateTime\"")
+    private Date fetchedDateTime;
+}
@@ -0,0 +1,27 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CircuitBreakerStatus {
+    private final String state;
+    private final float failureRate;
+    private final float slowCallRate;
+    private final long notPermittedCalls;
+    private final int bulkheadAvailable;
+    private final long bulkheadRejected;
+    private final List<Transition> recentTransitions;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Transition {
+        private final String from;
+        private final String to;
+        private final Date at;
+    }
+}
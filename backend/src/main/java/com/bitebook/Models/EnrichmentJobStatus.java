@@ -0,0 +1,25 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class EnrichmentJobStatus {
+    public enum State {
+        Idle,
+        Running,
+        Completed,
+        Failed
+    }
+
+    private final State state;
+    private final int total;
+    private final int enriched;
+    private final int failed;
+    private final int retries;
+    private final Date startedAt;
+    private final Date finishedAt;
+}
@@ -0,0 +1,7 @@
+package com.bitebook.Models;
+
+public enum EnrichmentState {
+    Pending,
+    Enriched,
+    Failed
+}
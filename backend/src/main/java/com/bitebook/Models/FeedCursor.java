@@ -0,0 +1,41 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+// Opaque keyset position for the feed: the (LastUpdatedDateTime, PlaceId) of the last row on a page.
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+    private final Date lastUpdatedDateTime;
+    private final UUID placeId;
+
+    public static FeedCursor from(Place place) {
+        return new FeedCursor(place.getLastUpdatedDateTime(), place.getPlaceId());
+    }
+
+    public static FeedCursor from(FeedItem item) {
+        return new FeedCursor(item.getLastUpdatedDateTime(), item.getPlaceId());
+    }
+
+    public String encode() {
+        String raw = lastUpdatedDateTime.getTime() + "_" + placeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('_');
+            return new FeedCursor(new Date(Long.parseLong(raw.substring(0, separator))),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid feed cursor: " + cursor, ex);
+        }
+    }
+}
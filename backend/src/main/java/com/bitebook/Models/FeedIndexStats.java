@@ -0,0 +1,14 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor
+public class FeedIndexStats {
+    private final int size;
+    private final long lastRebuildMillis;
+    private final Date lastRebuiltAt;
+}
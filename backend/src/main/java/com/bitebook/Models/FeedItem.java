@@ -0,0 +1,38 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.UUID;
+
+// A feed row: only what the list view shows. The full place, with hours and address, comes from /places/place/{id}.
+@Getter
+@AllArgsConstructor
+public class FeedItem {
+    // Notes are cut to a preview long enough for the card's two lines
+    public static final int NOTES_PREVIEW_LENGTH = 120;
+
+    private final UUID placeId;
+    private final String name;
+    private final PlaceType type;
+    private final String cuisine;
+    private final String location;
+    private final Boolean visited;
+    private final Double rating;
+    private final String notes;
+    private final Boolean isPermanentlyClosed;
+    private final Long version;
+    private final Date createdDateTime;
+    private final Date lastUpdatedDateTime;
+
+    public static FeedItem from(Place place) {
+        String notes = place.getNotes();
+        if (notes != null && notes.length() > NOTES_PREVIEW_LENGTH) {
+            notes = notes.substring(0, NOTES_PREVIEW_LENGTH);
+        }
+        return new FeedItem(place.getPlaceId(), place.getName(), place.getType(), place.getCuisine(),
+                place.getLocation(), place.getVisited(), place.getRating(), notes, place.getIsPermanentlyClosed(),
+                place.getVersion(), place.getCreatedDateTime(), place.getLastUpdatedDateTime());
+    }
+}
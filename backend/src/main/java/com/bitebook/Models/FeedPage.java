@@ -0,0 +1,14 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class FeedPage {
+    private final List<FeedItem> places;
+    // Null when there are no more rows after this page
+    private final String nextCursor;
+}
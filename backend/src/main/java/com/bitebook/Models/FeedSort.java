@@ -0,0 +1,6 @@
+package com.bitebook.Models;
+
+public enum FeedSort {
+    Newest,
+    Oldest
+}
@@ -0,0 +1,17 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HttpPoolStats {
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+    private final long leases;
+    private final long leaseTimeouts;
+    private final long averageLeaseWaitMicros;
+    private final long maxLeaseWaitMicros;
+}
@@ -0,0 +1,11 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyPlace {
+    private final Place place;
+    private final double distanceMeters;
+}
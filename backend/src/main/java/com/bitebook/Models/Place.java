@@ -1,20 +1,37 @@
 package com.bitebook.Models;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.util.*;
 
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 @Entity
-@Table(name = "\"Places\"", schema = "public")
+@Table(name = "\"Places\"", schema = "public", indexes = {
+        @Index(name = "ix_places_feed", columnList = "\"LastUpdatedDateTime\", \"PlaceId\""),
+        @Index(name = "ix_places_type_feed", columnList = "\"Type\", \"LastUpdatedDateTime\", \"PlaceId\""),
+        @Index(name = "ix_places_type_visited_feed", columnList = "\"Type\", \"Visited\", \"LastUpdatedDateTime\", \"PlaceId\""),
+        @Index(name = "ix_places_changes", columnList = "\"ChangedDateTime\", \"PlaceId\"")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @Access(AccessType.FIELD)
+// Updates write only the changed columns, so an enrichment save cannot put back fields a concurrent edit changed
+@DynamicUpdate
+// Deleted places stay behind as tombstones for /changes; every JPA read skips them
+@SQLRestriction("\"DeletedDateTime\" IS NULL")
 public class Place {
 
     @Id
@@ -46,12 +63,21 @@ public class Place {
     @Column(name = "\"Rating\"")
     private Double rating;
 
+    // The user's own when they give one; Google only fills it in when they left it empty
+    @OptimisticLock(excluded = true)
     @Column(name = "\"Website\"")
     private String website;
 
     @Column(name = "\"SocialMedia\"")
     private String socialMedia;
 
+    // Counts edits to the fields above; the website and the details filled in from Google are excluded so
+    // enrichment never conflicts with an edit. Null only on rows that predate it, until the startup backfill runs.
+    @Version
+    @Column(name = "\"Version\"")
+    private Long version;
+
+    @OptimisticLock(excluded = true)
     @Column(name="\"GooglePlaceId\"")
     private String googlePlaceId;
 
@@ -61,15 +87,72 @@ public class Place {
     @Column(name="\"CreatedDateTime\"")
     private Date createdDateTime;
 
+    // Moved by every write, enrichment and deletes included, so /changes sees them; lastUpdatedDateTime only
+    // follows edits and orders the feed. JDBC writes set it themselves.
+    @JsonIgnore
+    @UpdateTimestamp
+    @OptimisticLock(excluded = true)
+    @Column(name="\"ChangedDateTime\"")
+    private Date changedDateTime;
+
+    @OptimisticLock(excluded = true)
     @Column(name="\"FullAddress\"")
     private String fullAddress;
 
+    @OptimisticLock(excluded = true)
+    @Column(name="\"Latitude\"")
+    private Double latitude;
+
+    @OptimisticLock(excluded = true)
+    @Column(name="\"Longitude\"")
+    private Double longitude;
+
+    @OptimisticLock(excluded = true)
     @Column(name="\"IsPermanentlyClosed\"")
     private Boolean isPermanentlyClosed;
 
-    @Transient
+    @JdbcTypeCode(SqlTypes.JSON)
+    @OptimisticLock(excluded = true)
+    @Column(name="\"OpeningHours\"")
     private Map<String, List<OpeningHoursPeriod>> openingHours = new HashMap<>();
 
+    // When openingHours was last taken from Google; null means the hours have never been fetched
+    @OptimisticLock(excluded = true)
+    @Column(name="\"OpeningHoursUpdatedDateTime\"")
+    private Date openingHoursUpdatedDateTime;
+
+    // Null for places added before background enrichment existed
+    @Enumerated(EnumType.STRING)
+    @OptimisticLock(excluded = true)
+    @Column(name="\"EnrichmentState\"")
+    private EnrichmentState enrichmentState;
+
+    // Set instead of removing the row; always null on places that can be loaded
+    @JsonIgnore
+    @Column(name="\"DeletedDateTime\"")
+    private Date deletedDateTime;
+
+    // Compiled from openingHours on first use; immutable, so a racing first use just compiles it twice
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private WeeklyHours weeklyHours;
+
+    public void setOpeningHours(Map<String, List<OpeningHoursPeriod>> openingHours) {
+        this.openingHours = openingHours;
+        this.weeklyHours = null;
+    }
+
+    public WeeklyHours getWeeklyHours() {
+        WeeklyHours compiled = weeklyHours;
+        if (compiled == null) {
+            compiled = WeeklyHours.compile(openingHours);
+            weeklyHours = compiled;
+        }
+        return compiled;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -0,0 +1,22 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PlaceChanges {
+    // Created or updated since the token, oldest change first
+    private final List<Place> places;
+    // Ids of places deleted since the token
+    private final List<UUID> deleted;
+    // Pass as since on the next call
+    private final String token;
+    // More changes are waiting; call again straight away with the new token
+    private final boolean hasMore;
+    // The token was too old to answer from tombstones: drop the local copy and rebuild it from these pages
+    private final boolean reset;
+}
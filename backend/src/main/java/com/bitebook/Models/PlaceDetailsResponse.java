@@ -1,5 +1,6 @@
 package com.bitebook.Models;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
@@ -10,11 +11,16 @@ import lombok.Setter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.io.IOException;
 
 @Getter
@@ -43,6 +49,9 @@ public class PlaceDetailsResponse {
     @JsonProperty("businessStatus")
     private String businessStatus;
 
+    @JsonProperty("location")
+    private Location location;
+
 
     private List<String> types;
 
@@ -59,7 +68,10 @@ public class PlaceDetailsResponse {
     @JsonIgnoreProperties(ignoreUnknown = true)
     @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
     public static class Location {
+        // Places API (New) sends latitude/longitude; the legacy API and our cached copies use lat/lng
+        @JsonAlias("latitude")
         private Double lat;
+        @JsonAlias("longitude")
         private Double lng;
     }
 
@@ -68,46 +80,92 @@ public class PlaceDetailsResponse {
     @JsonIgnoreProperties(ignoreUnknown = true)
     @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
     @JsonDeserialize(using = OpeningHour.OpeningHourDeserializer.class)
+    @JsonSerialize(using = OpeningHour.OpeningHourSerializer.class)
     public static class OpeningHour {
         private HashMap<String, List<Period>> openingHours;
         private boolean openNow;
 
+        // Walks the token stream directly instead of building a JsonNode tree; unknown fields
+        // such as weekdayDescriptions or nextOpenTime are skipped without being materialized.
         static class OpeningHourDeserializer extends JsonDeserializer<OpeningHour> {
             @Override
             public OpeningHour deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-                JsonNode node = p.getCodec().readTree(p);
                 OpeningHour result = new OpeningHour();
                 result.openingHours = new HashMap<>();
 
-                if (node.has("openNow")) {
-                    result.openNow = node.get("openNow").asBoolean();
+                JsonToken token = p.currentToken();
+                if (token == JsonToken.START_OBJECT) {
+                    token = p.nextToken();
+                }
+                for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                    String field = p.currentName();
+                    p.nextToken();
+                    switch (field) {
+                        case "openNow" -> result.openNow = p.getValueAsBoolean();
+                        case "periods" -> readPeriods(p, result.openingHours);
+                        default -> p.skipChildren();
+                    }
                 }
 
-                if (node.has("periods")) {
-                    for (JsonNode periodNode : node.get("periods")) {
-                        if (periodNode.has("open")) {
-                            JsonNode openNode = periodNode.get("open");
-                            int dayNum = openNode.get("day").asInt();
-                            String dayName = formattedDayString(dayNum);
-
-                            Period period = new Period();
-                            period.setOpeningHour(openNode.get("hour").asInt());
-                            period.setOpeningMinute(openNode.get("minute").asInt());
-
-                            if (periodNode.has("close")) {
-                                JsonNode closeNode = periodNode.get("close");
-                                period.setClosingHour(closeNode.get("hour").asInt());
-                                period.setClosingMinute(closeNode.get("minute").asInt());
-                            }
-
-                            result.openingHours
-                                    .computeIfAbsent(dayName, k -> new ArrayList<>())
-                                    .add(period);
+                return result;
+            }
+
+            private static void readPeriods(JsonParser p, HashMap<String, List<Period>> openingHours) throws IOException {
+                if (p.currentToken() != JsonToken.START_ARRAY) {
+                    p.skipChildren();
+                    return;
+                }
+                // day, hour, minute of the current open and close points; day stays -1 when the point is absent
+                int[] open = new int[3];
+                int[] close = new int[3];
+                while (p.nextToken() == JsonToken.START_OBJECT) {
+                    open[0] = -1;
+                    close[0] = -1;
+                    close[1] = 0;
+                    close[2] = 0;
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = p.currentName();
+                        p.nextToken();
+                        switch (field) {
+                            case "open" -> readPoint(p, open);
+                            case "close" -> readPoint(p, close);
+                            default -> p.skipChildren();
                         }
                     }
+                    if (open[0] < 0) {
+                        continue;
+                    }
+
+                    Period period = new Period();
+                    period.setOpeningHour(open[1]);
+                    period.setOpeningMinute(open[2]);
+                    period.setClosingHour(close[1]);
+                    period.setClosingMinute(close[2]);
+
+                    openingHours
+                            .computeIfAbsent(formattedDayString(open[0]), k -> new ArrayList<>())
+                            .add(period);
                 }
+            }
 
-                return result;
+            private static void readPoint(JsonParser p, int[] point) throws IOException {
+                if (p.currentToken() != JsonToken.START_OBJECT) {
+                    p.skipChildren();
+                    return;
+                }
+                point[0] = 0;
+                point[1] = 0;
+                point[2] = 0;
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    p.nextToken();
+                    switch (field) {
+                        case "day" -> point[0] = p.getValueAsInt();
+                        case "hour" -> point[1] = p.getValueAsInt();
+                        case "minute" -> point[2] = p.getValueAsInt();
+                        default -> p.skipChildren();
+                    }
+                }
             }
 
             private static String formattedDayString(int day) {
@@ -115,6 +173,39 @@ public class PlaceDetailsResponse {
                 return NAMES[day];
             }
         }
+
+        // Writes Google's regularOpeningHours shape back out so cached responses round-trip through the deserializer
+        static class OpeningHourSerializer extends JsonSerializer<OpeningHour> {
+            private static final List<String> DAYS = List.of("Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday");
+
+            @Override
+            public void serialize(OpeningHour value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+                gen.writeStartObject();
+                gen.writeBooleanField("openNow", value.openNow);
+                gen.writeArrayFieldStart("periods");
+                if (value.openingHours != null) {
+                    for (Map.Entry<String, List<Period>> day : value.openingHours.entrySet()) {
+                        int dayNum = DAYS.indexOf(day.getKey());
+                        for (Period period : day.getValue()) {
+                            gen.writeStartObject();
+                            writePoint(gen, "open", dayNum, period.getOpeningHour(), period.getOpeningMinute());
+                            writePoint(gen, "close", dayNum, period.getClosingHour(), period.getClosingMinute());
+                            gen.writeEndObject();
+                        }
+                    }
+                }
+                gen.writeEndArray();
+                gen.writeEndObject();
+            }
+
+            private static void writePoint(JsonGenerator gen, String name, int day, int hour, int minute) throws IOException {
+                gen.writeObjectFieldStart(name);
+                gen.writeNumberField("day", day);
+                gen.writeNumberField("hour", hour);
+                gen.writeNumberField("minute", minute);
+                gen.writeEndObject();
+            }
+        }
     }
 
     @Getter
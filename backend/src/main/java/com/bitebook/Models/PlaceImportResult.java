@@ -0,0 +1,16 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PlaceImportResult {
+    private final int imported;
+    private final int rejected;
+    // "line N: reason" for the first rejected rows
+    private final List<String> errors;
+    private final long durationMillis;
+}
@@ -0,0 +1,30 @@
+package com.bitebook.Models;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Only the fields present in the body are written; an explicit null clears a field
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlacePatch {
+    // Identifies the place in a batch; the single-place endpoint takes it from the path instead
+    private UUID placeId;
+    // When set, the patch only applies if the place is still at this version
+    private Long version;
+    @Setter(AccessLevel.NONE)
+    private Map<String, JsonNode> fields = new LinkedHashMap<>();
+
+    @JsonAnySetter
+    public void setField(String name, JsonNode value) {
+        fields.put(name, value);
+    }
+}
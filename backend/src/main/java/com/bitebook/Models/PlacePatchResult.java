@@ -0,0 +1,23 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PlacePatchResult {
+    public enum Status {
+        Updated,
+        Conflict,
+        NotFound,
+        Invalid
+    }
+
+    private final UUID placeId;
+    private final Status status;
+    // The version after the patch, or the current version when it conflicted
+    private final Long version;
+    private final String error;
+}
@@ -0,0 +1,13 @@
+package com.bitebook.Models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SingleFlightStats {
+    private final String name;
+    private final long calls;
+    private final long deduplicated;
+    private final int inFlight;
+}
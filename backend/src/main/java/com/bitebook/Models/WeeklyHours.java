@@ -0,0 +1,99 @@
+package com.bitebook.Models;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A place's opening hours compiled to sorted, non-overlapping [open, close) intervals in minutes of the
+ * week, Sunday 00:00 being 0 as in Google's day numbering. Periods that close at or before they open run
+ * into the next day, and those past Saturday midnight wrap round to Sunday.
+ * Checking a time is a binary search over a handful of ints.
+ */
+public final class WeeklyHours {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public static final WeeklyHours NONE = new WeeklyHours(new int[0]);
+
+    private static final List<String> DAYS = List.of("Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday");
+
+    // open0, close0, open1, close1, ...
+    private final int[] bounds;
+
+    private WeeklyHours(int[] bounds) {
+        this.bounds = bounds;
+    }
+
+    public static WeeklyHours compile(Map<String, List<Place.OpeningHoursPeriod>> openingHours) {
+        if (openingHours == null || openingHours.isEmpty()) {
+            return NONE;
+        }
+
+        List<int[]> intervals = new ArrayList<>();
+        openingHours.forEach((day, periods) -> {
+            int dayIndex = DAYS.indexOf(day);
+            if (dayIndex < 0 || periods == null) {
+                return;
+            }
+            for (Place.OpeningHoursPeriod period : periods) {
+                int open = dayIndex * MINUTES_PER_DAY + period.getOpeningHour() * 60 + period.getOpeningMinute();
+                int close = dayIndex * MINUTES_PER_DAY + period.getClosingHour() * 60 + period.getClosingMinute();
+                if (close <= open) {
+                    close += MINUTES_PER_DAY;
+                }
+                if (close > MINUTES_PER_WEEK) {
+                    intervals.add(new int[] {open, MINUTES_PER_WEEK});
+                    intervals.add(new int[] {0, close - MINUTES_PER_WEEK});
+                } else {
+                    intervals.add(new int[] {open, close});
+                }
+            }
+        });
+        // Google's "open 24/7" is a single Sunday 00:00 opening with no close
+        if (openingHours.size() == 1 && intervals.size() == 1
+                && intervals.getFirst()[0] == 0 && intervals.getFirst()[1] == MINUTES_PER_DAY
+                && openingHours.containsKey("Sunday")) {
+            return new WeeklyHours(new int[] {0, MINUTES_PER_WEEK});
+        }
+        if (intervals.isEmpty()) {
+            return NONE;
+        }
+
+        intervals.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] merged = new int[intervals.size() * 2];
+        int size = 0;
+        for (int[] interval : intervals) {
+            if (size > 0 && interval[0] <= merged[size - 1]) {
+                merged[size - 1] = Math.max(merged[size - 1], interval[1]);
+            } else {
+                merged[size++] = interval[0];
+                merged[size++] = interval[1];
+            }
+        }
+        return new WeeklyHours(Arrays.copyOf(merged, size));
+    }
+
+    public static int minuteOfWeek(LocalDateTime time) {
+        // DayOfWeek runs Monday = 1 to Sunday = 7
+        return (time.getDayOfWeek().getValue() % 7) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    public boolean isOpenAt(int minuteOfWeek) {
+        // Last interval opening at or before the minute
+        int low = 0;
+        int high = bounds.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid * 2] <= minuteOfWeek) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && minuteOfWeek < bounds[high * 2 + 1];
+    }
+}
@@ -0,0 +1,49 @@
+package com.bitebook.Proxies;
+
+import com.bitebook.Interfaces.SecretSource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Secrets from a local .properties file, for development, tests and benchmarks that run without AWS.
+ * The file is re-read on every fetch so edits are picked up by a refresh.
+ */
+public class FileSecretSource implements SecretSource {
+
+    private final Path path;
+
+    public FileSecretSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public Map<String, String> fetch(Collection<String> names) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read secrets file " + path, ex);
+        }
+
+        Map<String, String> values = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            String value = properties.getProperty(name);
+            if (value == null) {
+                missing.add(name);
+            } else {
+                values.put(name, value);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Parameters not found in " + path + ": " + missing);
+        }
+        return values;
+    }
+}
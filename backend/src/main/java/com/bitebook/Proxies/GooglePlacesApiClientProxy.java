@@ -11,19 +11,30 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 public class GooglePlacesApiClientProxy implements GooglePlacesApiClient {
+    // Only the fields PlaceDetailsResponse maps; anything else (photos, reviews, ...) is paid for and thrown away
+    static final String DEFAULT_FIELD_MASK = "id,name,formattedAddress,nationalPhoneNumber,regularOpeningHours.openNow,"
+            + "regularOpeningHours.periods,websiteUri,businessStatus,types,location";
+
     private final RestTemplate restTemplate;
     private final String baseUrl;
     private final String apiKey;
+    private final String detailsFieldMask;
+    private final String searchFieldMask;
 
     public GooglePlacesApiClientProxy(RestTemplate restTemplate,
                                       @Value("${google.places.base-url:https://places.googleapis.com/v1/places}") String baseUrl,
-                                      @Value("${google.places.api-key:}") String apiKey) {
+                                      @Value("${google.places.api-key:}") String apiKey,
+                                      @Value("${google.places.field-mask:" + DEFAULT_FIELD_MASK + "}") List<String> fieldMask) {
         this.restTemplate = restTemplate;
         this.baseUrl = baseUrl;
         this.apiKey = apiKey;
+        this.detailsFieldMask = String.join(",", fieldMask);
+        // searchText returns a list, so each path is nested under "places."
+        this.searchFieldMask = fieldMask.stream().map(field -> "places." + field).collect(Collectors.joining(","));
     }
 
     @Override
@@ -36,7 +47,7 @@ public class GooglePlacesApiClientProxy implements GooglePlacesApiClient {
             UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl)
                     .pathSegment(googlePlaceId)
                     .queryParam("key", apiKey)
-                    .queryParam("fields", "*");
+                    .queryParam("fields", detailsFieldMask);
             String url = builder.toUriString();
 
             ResponseEntity<PlaceDetailsResponse> resp = restTemplate.exchange(url, HttpMethod.GET, null, PlaceDetailsResponse.class);
@@ -55,7 +66,7 @@ public class GooglePlacesApiClientProxy implements GooglePlacesApiClient {
             String base = "https://content-places.googleapis.com/v1/places:searchText";
             UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(base)
                     .queryParam("key", apiKey)
-                    .queryParam("fields", "*")
+                    .queryParam("fields", searchFieldMask)
                     .queryParam("alt", "json");
             String url = builder.toUriString();
 
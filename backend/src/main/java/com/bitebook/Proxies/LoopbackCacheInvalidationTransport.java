@@ -0,0 +1,36 @@
+package com.bitebook.Proxies;
+
+import com.bitebook.Interfaces.CacheInvalidationTransport;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cache invalidations within one JVM, for tests and single-node runs. Every node listening on the same
+ * instance receives each message on the sending thread, so nothing is ever missed and there are no gaps.
+ */
+public class LoopbackCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    // Same limit as NOTIFY, so messages are split here the way they are against Postgres
+    private static final int MAX_MESSAGE_BYTES = 7999;
+
+    private final List<Consumer<String>> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(String message) {
+        for (Consumer<String> receiver : receivers) {
+            receiver.accept(message);
+        }
+    }
+
+    @Override
+    public void listen(Consumer<String> receiver, Runnable onGap) {
+        receivers.add(receiver);
+    }
+
+    @Override
+    public int maxMessageBytes() {
+        return MAX_MESSAGE_BYTES;
+    }
+}
@@ -0,0 +1,139 @@
+package com.bitebook.Proxies;
+
+import com.bitebook.Interfaces.CacheInvalidationTransport;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Cache invalidations over Postgres LISTEN/NOTIFY. Messages go out with pg_notify on a pooled connection;
+ * a virtual thread keeps one dedicated connection that LISTENs and polls it for notifications. That
+ * connection must reach Postgres directly: PgBouncer in transaction mode (Neon's -pooler hosts) forgets
+ * LISTEN between transactions. Notifications sent while the listener is reconnecting are lost, so every
+ * reconnect is reported as a gap.
+ */
+public class PostgresCacheInvalidationTransport implements CacheInvalidationTransport, AutoCloseable {
+
+    // NOTIFY payloads must be shorter than 8000 bytes
+    private static final int MAX_MESSAGE_BYTES = 7999;
+    // LISTEN takes an identifier, not a bind parameter
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidationTransport.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final Duration pollInterval;
+    private final Duration reconnectBackoff;
+
+    private volatile boolean running = true;
+    private volatile Thread listener;
+    private volatile Connection connection;
+
+    public PostgresCacheInvalidationTransport(JdbcTemplate jdbcTemplate, String url, String username, String password,
+                                              String channel, Duration pollInterval, Duration reconnectBackoff) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+        this.reconnectBackoff = reconnectBackoff;
+    }
+
+    @Override
+    public void send(String message) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, channel, message);
+    }
+
+    @Override
+    public void listen(Consumer<String> receiver, Runnable onGap) {
+        listener = Thread.ofVirtual().name("cache-invalidation-listener").start(() -> run(receiver, onGap));
+    }
+
+    @Override
+    public int maxMessageBytes() {
+        return MAX_MESSAGE_BYTES;
+    }
+
+    private void run(Consumer<String> receiver, Runnable onGap) {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(url, username, password)) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    onGap.run();
+                }
+                logger.info("Listening for cache invalidations on channel {}", channel);
+                PGConnection notifications = listening.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications((int) pollInterval.toMillis());
+                    if (received == null || received.length == 0) {
+                        // A half-open connection only shows itself when something is sent on it
+                        if (!listening.isValid(5)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : received) {
+                        try {
+                            receiver.accept(notification.getParameter());
+                        } catch (RuntimeException ex) {
+                            logger.warn("Could not apply cache invalidation", ex);
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Cache invalidation listener lost its connection, reconnecting in {}", reconnectBackoff, ex);
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectBackoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        Connection listening = connection;
+        if (listening != null) {
+            try {
+                // Also wakes the listener out of getNotifications
+                listening.close();
+            } catch (SQLException ex) {
+                logger.debug("Could not close cache invalidation listener connection", ex);
+            }
+        }
+        Thread thread = listener;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.bitebook.Proxies;
+
+import com.bitebook.Interfaces.GooglePlacesApiClient;
+import com.bitebook.Interfaces.GooglePlacesUnavailableException;
+import com.bitebook.Models.CircuitBreakerStatus;
+import com.bitebook.Models.PlaceDetailsListResponse;
+import com.bitebook.Models.PlaceDetailsResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Guards GooglePlacesApiClientProxy with a bulkhead that caps how many threads may wait on Google, and a
+ * circuit breaker that stops calling it while timeouts and 5xx responses dominate. Rejected calls fail fast
+ * with GooglePlacesUnavailableException so callers can fall back to stored or stale data.
+ * Every call, rejected ones included, is timed as google.places.requests tagged by operation and outcome.
+ */
+@Primary
+@Component
+public class ResilientGooglePlacesApiClient implements GooglePlacesApiClient {
+
+    private static final int TRANSITION_HISTORY = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(ResilientGooglePlacesApiClient.class);
+
+    private final GooglePlacesApiClient delegate;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final LongAdder bulkheadRejected = new LongAdder();
+    private final Deque<CircuitBreakerStatus.Transition> transitions = new ArrayDeque<>();
+
+    public ResilientGooglePlacesApiClient(GooglePlacesApiClientProxy delegate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${google.places.circuit.failure-rate-threshold:50}") float failureRateThreshold,
+                                          @Value("${google.places.circuit.slow-call-threshold:2s}") Duration slowCallThreshold,
+                                          @Value("${google.places.circuit.sliding-window-size:20}") int slidingWindowSize,
+                                          @Value("${google.places.circuit.minimum-calls:10}") int minimumCalls,
+                                          @Value("${google.places.circuit.open-duration:30s}") Duration openDuration,
+                                          @Value("${google.places.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls,
+                                          @Value("${google.places.bulkhead.max-wait:200ms}") Duration maxWait) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = CircuitBreaker.of("googlePlaces", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(80)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // A 404 or bad request says nothing about Google's health
+                .recordException(GooglePlacesApiClient::isTransientFailure)
+                .build());
+        this.bulkhead = Bulkhead.of("googlePlaces", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            logger.warn("Google Places circuit breaker {} -> {}", transition.getFromState(), transition.getToState());
+            synchronized (transitions) {
+                transitions.addFirst(new CircuitBreakerStatus.Transition(
+                        transition.getFromState().name(), transition.getToState().name(), new Date()));
+                if (transitions.size() > TRANSITION_HISTORY) {
+                    transitions.removeLast();
+                }
+            }
+        });
+
+        // 0 closed, 1 open, 2 half-open
+        Gauge.builder("google.places.circuit.state", circuitBreaker, breaker -> breaker.getState().getOrder())
+                .register(meterRegistry);
+        Gauge.builder("google.places.bulkhead.available", bulkhead, b -> b.getMetrics().getAvailableConcurrentCalls())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PlaceDetailsResponse getPlaceDetails(String googlePlaceId) {
+        return call("details", () -> delegate.getPlaceDetails(googlePlaceId));
+    }
+
+    @Override
+    public PlaceDetailsListResponse getPlaceDetailsByName(String placeName) {
+        return call("search", () -> delegate.getPlaceDetailsByName(placeName));
+    }
+
+    public CircuitBreakerStatus getStatus() {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        List<CircuitBreakerStatus.Transition> recent;
+        synchronized (transitions) {
+            recent = List.copyOf(transitions);
+        }
+        return new CircuitBreakerStatus(
+                circuitBreaker.getState().name(),
+                metrics.getFailureRate(),
+                metrics.getSlowCallRate(),
+                metrics.getNumberOfNotPermittedCalls(),
+                bulkhead.getMetrics().getAvailableConcurrentCalls(),
+                bulkheadRejected.sum(),
+                recent);
+    }
+
+    private <T> T call(String operation, Supplier<T> supplier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, supplier)).get();
+        } catch (CallNotPermittedException ex) {
+            outcome = "circuit_open";
+            throw new GooglePlacesUnavailableException("Google Places circuit is open", ex);
+        } catch (BulkheadFullException ex) {
+            outcome = "bulkhead_full";
+            bulkheadRejected.increment();
+            throw new GooglePlacesUnavailableException("Too many concurrent Google Places calls", ex);
+        } catch (RuntimeException ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("google.places.requests", "operation", operation, "outcome", outcome));
+        }
+    }
+
+    private static String outcome(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAccessException) {
+                return "io_error";
+            }
+            if (cause instanceof HttpClientErrorException.TooManyRequests) {
+                return "throttled";
+            }
+            if (cause instanceof HttpClientErrorException) {
+                return "client_error";
+            }
+            if (cause instanceof HttpServerErrorException) {
+                return "server_error";
+            }
+        }
+        return "error";
+    }
+}
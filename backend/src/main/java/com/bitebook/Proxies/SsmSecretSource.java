@@ -0,0 +1,60 @@
+package com.bitebook.Proxies;
+
+import com.bitebook.Interfaces.SecretSource;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
+
+import java.util.*;
+
+/**
+ * AWS SSM Parameter Store, read with GetParameters so a startup's worth of secrets is one round trip
+ * instead of one per name. The client is built on first use; building it resolves credentials, which
+ * is itself slow and not needed when the app boots from the snapshot.
+ */
+public class SsmSecretSource implements SecretSource {
+
+    // GetParameters accepts at most ten names per call
+    private static final int MAX_NAMES_PER_CALL = 10;
+
+    private final Region region;
+    private volatile SsmClient ssmClient;
+
+    public SsmSecretSource(Region region) {
+        this.region = region;
+    }
+
+    @Override
+    public Map<String, String> fetch(Collection<String> names) {
+        List<String> all = List.copyOf(names);
+        Map<String, String> values = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_NAMES_PER_CALL) {
+            GetParametersRequest request = GetParametersRequest.builder()
+                    .names(all.subList(from, Math.min(from + MAX_NAMES_PER_CALL, all.size())))
+                    .withDecryption(true)
+                    .build();
+            GetParametersResponse response = client().getParameters(request);
+            response.parameters().forEach(parameter -> values.put(parameter.name(), parameter.value()));
+            missing.addAll(response.invalidParameters());
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Parameters not found in SSM: " + missing);
+        }
+        return values;
+    }
+
+    private SsmClient client() {
+        SsmClient client = ssmClient;
+        if (client == null) {
+            synchronized (this) {
+                if (ssmClient == null) {
+                    ssmClient = SsmClient.builder().region(region).build();
+                }
+                client = ssmClient;
+            }
+        }
+        return client;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bitebook.Repositories;
+
+import com.bitebook.Models.CachedPlaceDetails;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PlaceDetailsCacheRepository extends JpaRepository<CachedPlaceDetails, String> {
+}
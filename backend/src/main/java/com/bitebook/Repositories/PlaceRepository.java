@@ -1,11 +1,66 @@
 package com.bitebook.Repositories;
 
+import com.bitebook.Models.EnrichmentState;
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.FeedSort;
 import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
-public interface PlaceRepository extends JpaRepository<Place, UUID> {
-    //@Query("SELECT p FROM Place p WHERE p.Visited = :visited")
-    //List<Place> GetVisitedPlaces(boolean visited);
+public interface PlaceRepository extends JpaRepository<Place, UUID>, JpaSpecificationExecutor<Place>, PlaceRepositoryCustom {
+
+    static Sort feedSort(FeedSort sort) {
+        Sort.Direction direction = sort == FeedSort.Oldest ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, "lastUpdatedDateTime", "placeId");
+    }
+
+    default List<Place> findFeed(PlaceType type, Boolean visited, FeedSort sort) {
+        return findAll(PlaceSpecifications.feed(type, visited, null, sort), feedSort(sort));
+    }
+
+    default List<Place> findFeedPage(PlaceType type, Boolean visited, FeedSort sort, FeedCursor cursor, int limit) {
+        return findBy(PlaceSpecifications.feed(type, visited, cursor, sort),
+                query -> query.sortBy(feedSort(sort)).limit(limit).all());
+    }
+
+    @Query("SELECT p.placeId FROM Place p WHERE p.enrichmentState = :state")
+    List<UUID> findIdsByEnrichmentState(@Param("state") EnrichmentState state);
+
+    // Keyset pagination cannot step over NULL sort keys, so legacy rows get a timestamp once. The fallback is a
+    // bound Date rather than CURRENT_TIMESTAMP: cursors carry milliseconds, and rows tied on a finer value would
+    // be skipped after the first page.
+    @Modifying
+    @Transactional
+    @Query("UPDATE Place p SET p.lastUpdatedDateTime = COALESCE(p.createdDateTime, :now) WHERE p.lastUpdatedDateTime IS NULL")
+    int backfillLastUpdatedDateTime(@Param("now") Date now);
+
+    // Rows from before the change stamp start it at their last edit, so existing /changes tokens still line up.
+    // Native, so tombstones are stamped too
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE \"Places\" SET \"ChangedDateTime\" = COALESCE(\"LastUpdatedDateTime\", \"CreatedDateTime\", :now) "
+            + "WHERE \"ChangedDateTime\" IS NULL", nativeQuery = true)
+    int backfillChangedDateTime(@Param("now") Date now);
+
+    // Hibernate cannot increment a NULL version, so rows from before versioning start at 0
+    @Modifying
+    @Transactional
+    @Query("UPDATE Place p SET p.version = 0 WHERE p.version IS NULL")
+    int backfillVersion();
+
+    // The row stays behind as a tombstone, stamped so /changes picks the deletion up after earlier changes
+    @Modifying
+    @Transactional
+    @Query("UPDATE Place p SET p.deletedDateTime = :now, p.lastUpdatedDateTime = :now, p.changedDateTime = :now WHERE p.placeId = :placeId AND p.deletedDateTime IS NULL")
+    int softDelete(@Param("placeId") UUID placeId, @Param("now") Date now);
 }
@@ -0,0 +1,18 @@
+package com.bitebook.Repositories;
+
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.FeedItem;
+import com.bitebook.Models.FeedSort;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PlaceRepositoryCustom {
+    // Forward-only cursor over the feed; must be consumed inside a transaction and closed afterwards
+    Stream<Place> streamFeed(PlaceType type, Boolean visited, FeedSort sort);
+
+    // The feed as list rows, selecting only their columns; limit Integer.MAX_VALUE reads the whole feed
+    List<FeedItem> findFeedItems(PlaceType type, Boolean visited, FeedSort sort, FeedCursor after, int limit);
+}
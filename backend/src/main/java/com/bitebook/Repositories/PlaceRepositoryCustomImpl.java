@@ -0,0 +1,79 @@
+package com.bitebook.Repositories;
+
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.FeedItem;
+import com.bitebook.Models.FeedSort;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${feed.stream.fetch-size:200}")
+    private int fetchSize;
+
+    @Override
+    public Stream<Place> streamFeed(PlaceType type, Boolean visited, FeedSort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Place> query = cb.createQuery(Place.class);
+        Root<Place> root = query.from(Place.class);
+
+        Specification<Place> spec = PlaceSpecifications.feed(type, visited, null, sort);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(PlaceRepository.feedSort(sort), root, cb));
+
+        // The Postgres driver only uses a server-side cursor when a fetch size is set and autocommit is off,
+        // and rows are detached as they pass so the persistence context does not grow with the result.
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    @Override
+    public List<FeedItem> findFeedItems(PlaceType type, Boolean visited, FeedSort sort, FeedCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FeedItem> query = cb.createQuery(FeedItem.class);
+        Root<Place> root = query.from(Place.class);
+
+        // Hours, address, links and the rest of the notes are never read for the list
+        query.select(cb.construct(FeedItem.class,
+                root.get("placeId"), root.get("name"), root.get("type"), root.get("cuisine"), root.get("location"),
+                root.get("visited"), root.get("rating"),
+                cb.substring(root.get("notes"), 1, FeedItem.NOTES_PREVIEW_LENGTH),
+                root.get("isPermanentlyClosed"), root.get("version"),
+                root.get("createdDateTime"), root.get("lastUpdatedDateTime")));
+
+        Predicate predicate = PlaceSpecifications.feed(type, visited, after, sort).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(PlaceRepository.feedSort(sort), root, cb));
+
+        TypedQuery<FeedItem> typed = entityManager.createQuery(query);
+        if (limit < Integer.MAX_VALUE) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+}
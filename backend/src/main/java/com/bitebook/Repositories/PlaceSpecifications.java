@@ -0,0 +1,57 @@
+package com.bitebook.Repositories;
+
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.FeedSort;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Date;
+import java.util.UUID;
+
+public final class PlaceSpecifications {
+
+    private PlaceSpecifications() {
+    }
+
+    // Only the filters that are actually supplied end up in the WHERE clause, so Postgres can pick
+    // the matching composite index instead of planning around "(? IS NULL OR ...)" predicates.
+    public static Specification<Place> feed(PlaceType type, Boolean visited, FeedCursor cursor, FeedSort sort) {
+        Specification<Place> spec = Specification.unrestricted();
+        if (type != null) {
+            spec = spec.and(hasType(type));
+        }
+        if (visited != null) {
+            spec = spec.and(hasVisited(visited));
+        }
+        if (cursor != null) {
+            spec = spec.and(after(cursor, sort));
+        }
+        return spec;
+    }
+
+    public static Specification<Place> hasType(PlaceType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Place> hasVisited(boolean visited) {
+        return (root, query, cb) -> cb.equal(root.get("visited"), visited);
+    }
+
+    // Keyset predicate: rows strictly after the cursor in (LastUpdatedDateTime, PlaceId) order
+    public static Specification<Place> after(FeedCursor cursor, FeedSort sort) {
+        return (root, query, cb) -> {
+            Path<Date> updated = root.get("lastUpdatedDateTime");
+            Path<UUID> id = root.get("placeId");
+            if (sort == FeedSort.Oldest) {
+                return cb.or(
+                        cb.greaterThan(updated, cursor.getLastUpdatedDateTime()),
+                        cb.and(cb.equal(updated, cursor.getLastUpdatedDateTime()), cb.greaterThan(id, cursor.getPlaceId())));
+            }
+            return cb.or(
+                    cb.lessThan(updated, cursor.getLastUpdatedDateTime()),
+                    cb.and(cb.equal(updated, cursor.getLastUpdatedDateTime()), cb.lessThan(id, cursor.getPlaceId())));
+        };
+    }
+}
@@ -0,0 +1,250 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.GooglePlacesApiClient;
+import com.bitebook.Models.EnrichmentJobStatus;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceDetailsListResponse;
+import com.bitebook.Models.PlaceDetailsResponse;
+import com.bitebook.Repositories.PlaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Re-resolves places against Google by name and writes the matched id, address, website and business
+ * status back in JDBC batches. Lookups run on virtual threads, capped by a concurrency limit and a token
+ * bucket sized to the Google quota. Only one job runs at a time.
+ */
+@Service
+public class BulkEnrichmentService {
+
+    private static final String UPDATE_SQL = "UPDATE \"Places\" SET \"GooglePlaceId\" = ?, \"FullAddress\" = ?, \"Website\" = COALESCE(\"Website\", ?), "
+            + "\"IsPermanentlyClosed\" = ?, \"Latitude\" = COALESCE(?, \"Latitude\"), \"Longitude\" = COALESCE(?, \"Longitude\"), "
+            + "\"ChangedDateTime\" = ? "
+            + "WHERE \"PlaceId\" = ? AND \"DeletedDateTime\" IS NULL";
+
+    private final Logger logger = LoggerFactory.getLogger(BulkEnrichmentService.class);
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private GooglePlacesApiClient googleProxy;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlaceChangePublisher placeChanges;
+
+    @Value("${enrichment.bulk.concurrency:8}")
+    private int concurrency;
+
+    @Value("${enrichment.bulk.requests-per-second:5}")
+    private double requestsPerSecond;
+
+    @Value("${enrichment.bulk.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${enrichment.bulk.batch-size:50}")
+    private int batchSize;
+
+    private volatile Job currentJob;
+    // A lock rather than synchronized: Start reads every place while holding it, and a monitor would pin a virtual thread
+    private final ReentrantLock startLock = new ReentrantLock();
+
+    public EnrichmentJobStatus Start(List<UUID> placeIds) {
+        startLock.lock();
+        try {
+            if (currentJob != null && currentJob.finishedAt == null) {
+                throw new IllegalStateException("An enrichment job is already running");
+            }
+            List<Place> places = placeIds == null || placeIds.isEmpty()
+                    ? placeRepository.findAll()
+                    : placeRepository.findAllById(placeIds);
+            Job job = new Job(places.size());
+            currentJob = job;
+            Thread.ofVirtual().name("bulk-enrichment").start(() -> run(job, places));
+            return job.toStatus();
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    public EnrichmentJobStatus GetStatus() {
+        Job job = currentJob;
+        if (job == null) {
+            return new EnrichmentJobStatus(EnrichmentJobStatus.State.Idle, 0, 0, 0, 0, null, null);
+        }
+        return job.toStatus();
+    }
+
+    private void run(Job job, List<Place> places) {
+        TokenBucket rateLimit = new TokenBucket(requestsPerSecond, Math.max(1, (int) requestsPerSecond));
+        Semaphore inFlight = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Place place : places) {
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        enrich(job, place, rateLimit);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.failedJob = true;
+        } catch (RuntimeException ex) {
+            logger.error("Bulk enrichment aborted", ex);
+            job.failedJob = true;
+        } finally {
+            flush(job, true);
+            job.finishedAt = new Date();
+            logger.info("Bulk enrichment finished: {} enriched, {} failed, {} retries",
+                    job.enriched.get(), job.failed.get(), job.retries.get());
+        }
+    }
+
+    private void enrich(Job job, Place place, TokenBucket rateLimit) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                rateLimit.acquire();
+                PlaceDetailsListResponse response = googleProxy.getPlaceDetailsByName(place.getName());
+                if (response == null || response.getPlaces() == null || response.getPlaces().isEmpty()) {
+                    logger.warn("No Google match for place {} ({})", place.getPlaceId(), place.getName());
+                    job.failed.incrementAndGet();
+                    return;
+                }
+                // Counted as enriched once its batch is written
+                job.pending.add(new Match(place.getPlaceId(), response.getPlaces().getFirst()));
+                if (job.pending.size() >= batchSize) {
+                    flush(job, false);
+                }
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                job.failed.incrementAndGet();
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts || !GooglePlacesApiClient.isTransientFailure(ex)) {
+                    logger.warn("Enrichment failed for place {} after {} attempt(s)", place.getPlaceId(), attempt, ex);
+                    job.failed.incrementAndGet();
+                    return;
+                }
+                job.retries.incrementAndGet();
+                try {
+                    // Exponential backoff with jitter: 500ms, 1s, 2s ...
+                    long backoff = 500L << (attempt - 1);
+                    Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    job.failed.incrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void flush(Job job, boolean force) {
+        if (force) {
+            job.flushLock.lock();
+        } else if (!job.flushLock.tryLock()) {
+            // Another thread is already writing a batch; it or the final flush will pick these rows up
+            return;
+        }
+        try {
+            List<Match> batch = new ArrayList<>();
+            Match next;
+            while ((next = job.pending.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<UUID> ids = new ArrayList<>(batch.size());
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            Date now = new Date();
+            for (Match match : batch) {
+                UUID placeId = match.placeId();
+                PlaceDetailsResponse details = match.details();
+                ids.add(placeId);
+                rows.add(new Object[] {
+                        details.getGooglePlaceId(),
+                        details.getFormattedAddress(),
+                        details.getWebsite(),
+                        details.getBusinessStatus() != null && details.getBusinessStatus().contains("CLOSED"),
+                        details.getLocation() == null ? null : details.getLocation().getLat(),
+                        details.getLocation() == null ? null : details.getLocation().getLng(),
+                        now,
+                        placeId
+                });
+            }
+            int[] counts;
+            try {
+                // JDBC batches bypass the repository invocation timers, so they get their own
+                counts = meterRegistry.timer("db.batch", "operation", "enrichment")
+                        .record(() -> jdbcTemplate.batchUpdate(UPDATE_SQL, rows));
+            } catch (RuntimeException ex) {
+                logger.error("Failed to write enrichment batch of {} places", batch.size(), ex);
+                job.failed.addAndGet(batch.size());
+                return;
+            }
+            // A zero count is a place deleted since its lookup
+            int written = 0;
+            for (int count : counts) {
+                if (count != 0) {
+                    written++;
+                }
+            }
+            job.enriched.addAndGet(written);
+            job.failed.addAndGet(batch.size() - written);
+            // JDBC writes bypass JPA, so cached and indexed copies of these places are refreshed by hand
+            placeChanges.committed(placeRepository.findAllById(ids));
+        } catch (RuntimeException ex) {
+            logger.error("Failed to refresh enriched places", ex);
+        } finally {
+            job.flushLock.unlock();
+        }
+    }
+
+    private record Match(UUID placeId, PlaceDetailsResponse details) {
+    }
+
+    private static final class Job {
+        private final int total;
+        private final Date startedAt = new Date();
+        private final AtomicInteger enriched = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger retries = new AtomicInteger();
+        private final Queue<Match> pending = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private volatile boolean failedJob;
+        private volatile Date finishedAt;
+
+        private Job(int total) {
+            this.total = total;
+        }
+
+        private EnrichmentJobStatus toStatus() {
+            EnrichmentJobStatus.State state = finishedAt == null
+                    ? EnrichmentJobStatus.State.Running
+                    : failedJob ? EnrichmentJobStatus.State.Failed : EnrichmentJobStatus.State.Completed;
+            return new EnrichmentJobStatus(state, total, enriched.get(), failed.get(), retries.get(), startedAt, finishedAt);
+        }
+    }
+}
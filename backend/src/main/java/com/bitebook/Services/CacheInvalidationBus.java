@@ -0,0 +1,286 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.CacheInvalidationTransport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps each node's Caffeine caches coherent with the other nodes'. The caches report every put, eviction and
+ * clear here; a flusher waits flush-window after the first one so the rest of a write burst joins it, then
+ * broadcasts the pending keys as a few messages. A cache with more than max-keys pending is cleared instead.
+ * Received invalidations drop the local copies and are handed to listeners, which bring the rest of the node's
+ * state up to date. A node can still cache an old value it finished loading after the eviction arrived;
+ * the cache TTL bounds that. Without a transport (cache.invalidation.transport=none) nothing is sent.
+ */
+@Service
+public class CacheInvalidationBus {
+
+    public interface Listener {
+        // Keys other nodes invalidated; cleared means the whole cache, when keys is empty
+        void invalidated(Set<String> keys, boolean cleared);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationTransport transport;
+    private final Duration flushWindow;
+    private final int maxKeys;
+    private final Counter sent;
+    private final Counter received;
+    private final Counter gaps;
+
+    // Tells this node's messages apart when the transport delivers them back
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, com.github.benmanes.caffeine.cache.Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingChanged = lock.newCondition();
+    private Map<String, Set<String>> pendingKeys = new HashMap<>();
+    private Set<String> pendingClears = new HashSet<>();
+    private volatile Thread flusher;
+
+    public CacheInvalidationBus(ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                Optional<CacheInvalidationTransport> transport,
+                                @Value("${cache.invalidation.flush-window:25ms}") Duration flushWindow,
+                                @Value("${cache.invalidation.max-keys:1000}") int maxKeys) {
+        this.objectMapper = objectMapper;
+        this.transport = transport.orElse(null);
+        this.flushWindow = flushWindow;
+        this.maxKeys = maxKeys;
+        this.sent = meterRegistry.counter("cache.invalidation.messages", "direction", "sent");
+        this.received = meterRegistry.counter("cache.invalidation.messages", "direction", "received");
+        this.gaps = meterRegistry.counter("cache.invalidation.gaps");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (transport == null || flusher != null) {
+            return;
+        }
+        transport.listen(this::receive, this::gap);
+        flusher = Thread.ofVirtual().name("cache-invalidation-flusher").start(this::flushLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = flusher;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    // Called by the cache manager for each cache it creates, so received invalidations can reach it
+    public void register(String cacheName, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        caches.put(cacheName, cache);
+    }
+
+    public void subscribe(String cacheName, Listener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void evicted(String cacheName, Object key) {
+        if (transport == null) {
+            return;
+        }
+        // Every cache here is keyed by strings; anything else cannot be named on the wire
+        if (!(key instanceof String name)) {
+            cleared(cacheName);
+            return;
+        }
+        lock.lock();
+        try {
+            if (pendingClears.contains(cacheName)) {
+                return;
+            }
+            Set<String> keys = pendingKeys.computeIfAbsent(cacheName, n -> new HashSet<>());
+            keys.add(name);
+            if (keys.size() > maxKeys) {
+                pendingKeys.remove(cacheName);
+                pendingClears.add(cacheName);
+            }
+            pendingChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cleared(String cacheName) {
+        if (transport == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            pendingKeys.remove(cacheName);
+            pendingClears.add(cacheName);
+            pendingChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        try {
+            while (true) {
+                lock.lock();
+                try {
+                    while (pendingKeys.isEmpty() && pendingClears.isEmpty()) {
+                        pendingChanged.await();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                Thread.sleep(flushWindow);
+                flush();
+            }
+        } catch (InterruptedException ex) {
+            // Shutting down: whatever is pending still goes out
+            flush();
+        }
+    }
+
+    void flush() {
+        Map<String, Set<String>> keys;
+        Set<String> clears;
+        lock.lock();
+        try {
+            keys = pendingKeys;
+            clears = pendingClears;
+            pendingKeys = new HashMap<>();
+            pendingClears = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+        if (keys.isEmpty() && clears.isEmpty()) {
+            return;
+        }
+        for (Message message : split(keys, clears)) {
+            try {
+                transport.send(objectMapper.writeValueAsString(message));
+                sent.increment();
+            } catch (JsonProcessingException | RuntimeException ex) {
+                logger.warn("Could not broadcast cache invalidations; other nodes keep their copies until they expire", ex);
+            }
+        }
+    }
+
+    // Packs the keys into as few messages as fit the transport; a key too large for any message clears its cache
+    private List<Message> split(Map<String, Set<String>> keys, Set<String> clears) {
+        int limit = transport.maxMessageBytes();
+        List<String> clearList = new ArrayList<>(clears);
+        for (Map.Entry<String, Set<String>> entry : keys.entrySet()) {
+            for (String key : entry.getValue()) {
+                if (jsonBytes(key) + jsonBytes(entry.getKey()) + 64 > limit) {
+                    clearList.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+
+        List<Message> messages = new ArrayList<>();
+        Map<String, List<String>> evict = new LinkedHashMap<>();
+        int size = jsonBytes(nodeId) + clearList.stream().mapToInt(name -> jsonBytes(name) + 1).sum() + 64;
+        for (Map.Entry<String, Set<String>> entry : keys.entrySet()) {
+            String cacheName = entry.getKey();
+            if (clearList.contains(cacheName)) {
+                continue;
+            }
+            for (String key : entry.getValue()) {
+                int cost = jsonBytes(key) + 1 + (evict.containsKey(cacheName) ? 0 : jsonBytes(cacheName) + 4);
+                if (size + cost > limit && !evict.isEmpty()) {
+                    messages.add(new Message(nodeId, evict, clearList));
+                    evict = new LinkedHashMap<>();
+                    clearList = List.of();
+                    size = jsonBytes(nodeId) + 64;
+                    cost = jsonBytes(key) + 1 + jsonBytes(cacheName) + 4;
+                }
+                evict.computeIfAbsent(cacheName, name -> new ArrayList<>()).add(key);
+                size += cost;
+            }
+        }
+        if (!evict.isEmpty() || !clearList.isEmpty()) {
+            messages.add(new Message(nodeId, evict, clearList));
+        }
+        return messages;
+    }
+
+    private int jsonBytes(String value) {
+        try {
+            return objectMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8).length;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    void receive(String payload) {
+        Message message;
+        try {
+            message = objectMapper.readValue(payload, Message.class);
+        } catch (JsonProcessingException ex) {
+            logger.warn("Ignoring unreadable cache invalidation message", ex);
+            return;
+        }
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        received.increment();
+        if (message.clear() != null) {
+            for (String cacheName : message.clear()) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = caches.get(cacheName);
+                if (cache != null) {
+                    cache.invalidateAll();
+                }
+                notifyListeners(cacheName, Set.of(), true);
+            }
+        }
+        if (message.evict() != null) {
+            message.evict().forEach((cacheName, keys) -> {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = caches.get(cacheName);
+                if (cache != null) {
+                    cache.invalidateAll(keys);
+                }
+                notifyListeners(cacheName, Set.copyOf(keys), false);
+            });
+        }
+    }
+
+    // The transport may have dropped messages, so nothing cached here can be trusted
+    private void gap() {
+        gaps.increment();
+        logger.warn("Cache invalidations may have been missed, clearing local caches");
+        caches.values().forEach(com.github.benmanes.caffeine.cache.Cache::invalidateAll);
+        listeners.keySet().forEach(cacheName -> notifyListeners(cacheName, Set.of(), true));
+    }
+
+    private void notifyListeners(String cacheName, Set<String> keys, boolean cleared) {
+        for (Listener listener : listeners.getOrDefault(cacheName, List.of())) {
+            try {
+                listener.invalidated(keys, cleared);
+            } catch (RuntimeException ex) {
+                logger.warn("Cache invalidation listener for {} failed", cacheName, ex);
+            }
+        }
+    }
+
+    record Message(String origin, Map<String, List<String>> evict, List<String> clear) {
+    }
+}
@@ -0,0 +1,210 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.PlaceIndex;
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.FeedIndexStats;
+import com.bitebook.Models.FeedSort;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * In-memory read model for the feed. Every (type, visited) combination, including the "any" buckets,
+ * is kept as an immutable array sorted newest first. Writers copy only the arrays a place moves between
+ * and publish a new snapshot, so readers never lock and never touch the database.
+ * The indexed Place instances are shared with readers and must be treated as read-only.
+ */
+@Service
+@ConditionalOnProperty(name = "feed.index.enabled", havingValue = "true")
+public class FeedIndex implements PlaceIndex {
+
+    private static final Comparator<Place> NEWEST_FIRST = Comparator
+            .comparingLong(FeedIndex::updatedMillis)
+            .thenComparing(Place::getPlaceId, FeedIndex::compareUuids)
+            .reversed();
+
+    // Type buckets: one per PlaceType, one for places without a type, one for "all"
+    private static final int NO_TYPE = PlaceType.values().length;
+    private static final int ALL_TYPES = NO_TYPE + 1;
+    // Visited buckets: false, true, unknown, "any"
+    private static final int NO_VISITED = 2;
+    private static final int ANY_VISITED = 3;
+    private static final int VISITED_BUCKETS = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(FeedIndex.class);
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+    private volatile long lastRebuildMillis;
+    private volatile Date lastRebuiltAt;
+
+    @Override
+    public Runnable load(List<Place> places) {
+        long start = System.nanoTime();
+        Snapshot rebuilt = Snapshot.of(places);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Feed index rebuilt with {} places in {} ms", rebuilt.byId.size(), millis);
+        return () -> {
+            synchronized (this) {
+                snapshot = rebuilt;
+            }
+            lastRebuildMillis = millis;
+            lastRebuiltAt = new Date();
+        };
+    }
+
+    @Override
+    public synchronized void upsert(Place place) {
+        snapshot = snapshot.with(place);
+    }
+
+    @Override
+    public synchronized void remove(UUID placeId) {
+        snapshot = snapshot.without(placeId);
+    }
+
+    public List<Place> find(PlaceType type, Boolean visited, FeedSort sort, FeedCursor after, int limit) {
+        Place[] view = snapshot.views[viewIndex(type == null ? ALL_TYPES : type.ordinal(),
+                visited == null ? ANY_VISITED : visitedBucket(visited))];
+        List<Place> ordered = Arrays.asList(view);
+        if (sort == FeedSort.Oldest) {
+            ordered = ordered.reversed();
+        }
+
+        int from = 0;
+        if (after != null) {
+            Place probe = new Place();
+            probe.setPlaceId(after.getPlaceId());
+            probe.setLastUpdatedDateTime(after.getLastUpdatedDateTime());
+            int position = Arrays.binarySearch(view, probe, NEWEST_FIRST);
+            int insertion = position >= 0 ? position + 1 : -position - 1;
+            from = sort == FeedSort.Oldest ? view.length - (position >= 0 ? position : insertion) : insertion;
+        }
+        int to = (int) Math.min((long) from + limit, ordered.size());
+        return Collections.unmodifiableList(ordered.subList(from, to));
+    }
+
+    public FeedIndexStats getStats() {
+        return new FeedIndexStats(snapshot.byId.size(), lastRebuildMillis, lastRebuiltAt);
+    }
+
+    private static int viewIndex(int typeBucket, int visitedBucket) {
+        return typeBucket * VISITED_BUCKETS + visitedBucket;
+    }
+
+    private static int visitedBucket(Boolean visited) {
+        if (visited == null) return NO_VISITED;
+        return visited ? 1 : 0;
+    }
+
+    // The four views a place appears in: exact, any-visited, all-types and everything
+    private static int[] viewsOf(Place place) {
+        int type = place.getType() == null ? NO_TYPE : place.getType().ordinal();
+        int visited = visitedBucket(place.getVisited());
+        return new int[] {
+                viewIndex(type, visited),
+                viewIndex(type, ANY_VISITED),
+                viewIndex(ALL_TYPES, visited),
+                viewIndex(ALL_TYPES, ANY_VISITED)
+        };
+    }
+
+    private static long updatedMillis(Place place) {
+        return place.getLastUpdatedDateTime() == null ? Long.MIN_VALUE : place.getLastUpdatedDateTime().getTime();
+    }
+
+    // Unsigned comparison so the index orders UUIDs the same way Postgres does
+    private static int compareUuids(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static final class Snapshot {
+        private final Map<UUID, Place> byId;
+        private final Place[][] views;
+
+        private Snapshot(Map<UUID, Place> byId, Place[][] views) {
+            this.byId = byId;
+            this.views = views;
+        }
+
+        static Snapshot empty() {
+            Place[][] views = new Place[(ALL_TYPES + 1) * VISITED_BUCKETS][];
+            Arrays.fill(views, new Place[0]);
+            return new Snapshot(Map.of(), views);
+        }
+
+        static Snapshot of(List<Place> places) {
+            List<List<Place>> buckets = new ArrayList<>();
+            for (int i = 0; i < (ALL_TYPES + 1) * VISITED_BUCKETS; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            Map<UUID, Place> byId = new HashMap<>(places.size() * 2);
+            for (Place place : places) {
+                byId.put(place.getPlaceId(), place);
+                for (int view : viewsOf(place)) {
+                    buckets.get(view).add(place);
+                }
+            }
+            Place[][] views = new Place[buckets.size()][];
+            for (int i = 0; i < views.length; i++) {
+                views[i] = buckets.get(i).toArray(new Place[0]);
+                Arrays.sort(views[i], NEWEST_FIRST);
+            }
+            return new Snapshot(Collections.unmodifiableMap(byId), views);
+        }
+
+        Snapshot with(Place place) {
+            Snapshot base = without(place.getPlaceId());
+            Place[][] views = base.views.clone();
+            for (int view : viewsOf(place)) {
+                views[view] = insert(views[view], place);
+            }
+            Map<UUID, Place> byId = new HashMap<>(base.byId);
+            byId.put(place.getPlaceId(), place);
+            return new Snapshot(Collections.unmodifiableMap(byId), views);
+        }
+
+        Snapshot without(UUID placeId) {
+            Place existing = byId.get(placeId);
+            if (existing == null) {
+                return this;
+            }
+            Place[][] views = this.views.clone();
+            for (int view : viewsOf(existing)) {
+                views[view] = delete(views[view], existing);
+            }
+            Map<UUID, Place> remaining = new HashMap<>(byId);
+            remaining.remove(placeId);
+            return new Snapshot(Collections.unmodifiableMap(remaining), views);
+        }
+
+        private static Place[] insert(Place[] view, Place place) {
+            int position = Arrays.binarySearch(view, place, NEWEST_FIRST);
+            int at = position >= 0 ? position : -position - 1;
+            Place[] copy = new Place[view.length + 1];
+            System.arraycopy(view, 0, copy, 0, at);
+            copy[at] = place;
+            System.arraycopy(view, at, copy, at + 1, view.length - at);
+            return copy;
+        }
+
+        private static Place[] delete(Place[] view, Place place) {
+            int at = Arrays.binarySearch(view, place, NEWEST_FIRST);
+            if (at < 0 || view[at] != place) {
+                at = Arrays.asList(view).indexOf(place);
+            }
+            if (at < 0) {
+                return view;
+            }
+            Place[] copy = new Place[view.length - 1];
+            System.arraycopy(view, 0, copy, 0, at);
+            System.arraycopy(view, at + 1, copy, at, view.length - at - 1);
+            return copy;
+        }
+    }
+}
@@ -1,47 +1,160 @@
 package com.bitebook.Services;
 
-import com.bitebook.Interfaces.GooglePlacesApiClient;
 import com.bitebook.Models.*;
 import com.bitebook.Repositories.PlaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.Cache;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class FeedService {
 
+    private static final int DEFAULT_FEED_PAGE_SIZE = 50;
+    private static final int MAX_FEED_PAGE_SIZE = 200;
+    // Rows read per step while filling a page with places open at the requested time
+    private static final int OPEN_AT_SCAN_BATCH = 200;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final double DEFAULT_NEARBY_RADIUS_METERS = 2_000;
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final int DEFAULT_NEARBY_LIMIT = 20;
+    private static final int MAX_NEARBY_LIMIT = 200;
+
+    private final Logger logger = LoggerFactory.getLogger(FeedService.class);
+
     @Autowired
     private PlaceRepository placeRepository;
 
     @Autowired
-    private GooglePlacesApiClient googleProxy;
+    private PlaceDetailsCache placeDetailsCache;
+
+    @Autowired
+    private PlaceEnricher placeEnricher;
+
+    @Autowired
+    private PlaceEnrichmentQueue placeEnrichmentQueue;
 
     @Autowired
     private CaffeineCacheManager cacheManager;
 
+    @Autowired
+    private BulkEnrichmentService bulkEnrichmentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    @Autowired
+    private PlaceSearchIndex placeSearchIndex;
+
+    @Autowired
+    private PlaceGeoIndex placeGeoIndex;
+
+    @Autowired
+    private SingleFlight<String, Place> placeLoadFlight;
+
+    @Autowired
+    private PlaceChangePublisher placeChanges;
+
+    // Opening hours are local to this zone; openAt values with an offset are converted into it
+    @Value("${feed.open-at.zone:Australia/Sydney}")
+    private ZoneId openAtZone;
+
+    // Stored hours are trusted for as long as the volatile Google fields are cached
+    @Value("${google.places.cache.volatile-ttl:PT24H}")
+    private Duration openingHoursTtl;
+
+    // Only present when feed.index.enabled=true
+    @Autowired(required = false)
+    private FeedIndex feedIndex;
+
     public List<Place> GetAllPlaces() {
         List<Place> places = placeRepository.findAll();
         places.forEach(p -> System.out.println(p.getName()));
         return places;
     }
 
-    @Cacheable(value = "places", key = "#placeId")
+    // Concurrent misses for the same placeId wait for one load. Not @Cacheable(sync = true): Caffeine runs
+    // that loader inside a map-bin monitor, which would pin a virtual thread for the whole JPA and Google call.
+    // Not @Cacheable at all: it fills misses with put, which the other nodes would take for a write.
     public Place GetPlace(String placeId) {
+        Cache cache = cacheManager.getCache("places");
+        Cache.ValueWrapper cached = cache != null ? cache.get(placeId) : null;
+        if (cached != null) {
+            return (Place) cached.get();
+        }
+        Place place = placeLoadFlight.execute(placeId, () -> timedLoadPlace(placeId));
+        if (cache != null) {
+            cache.putIfAbsent(placeId, place);
+        }
+        return place;
+    }
+
+    // Misses are filled with putIfAbsent, so Caffeine's own load statistics never move; they are timed here
+    private Place timedLoadPlace(String placeId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            Place place = loadPlace(placeId);
+            result = "success";
+            return place;
+        } finally {
+            sample.stop(meterRegistry.timer("cache.load", "cache", "places", "result", result));
+        }
+    }
+
+    private Place loadPlace(String placeId) {
         UUID convertedUuid = UUID.fromString(placeId);
 
         Place place = placeRepository.findById(convertedUuid)
                 .orElseThrow(() -> new IllegalArgumentException("Place not found: " + convertedUuid));
 
+        if (hasFreshDetails(place)) {
+            return place;
+        }
+
         // Enrich place details with Google Places data
-        PlaceDetailsResponse placeDetails = place.getGooglePlaceId() == null
-                ? GetPlaceDetailsByName(place)
-                : GetPlaceDetails(place.getGooglePlaceId());
+        PlaceDetailsResponse placeDetails;
+        // The cache may answer with a stale copy; the hours are only as fresh as Google's reply
+        Date fetchedDateTime;
+        try {
+            if (place.getGooglePlaceId() == null) {
+                placeDetails = GetPlaceDetailsByName(place);
+                fetchedDateTime = new Date();
+            } else {
+                CachedPlaceDetails cached = placeDetailsCache.getEntry(place.getGooglePlaceId());
+                placeDetails = cached.getResponse();
+                fetchedDateTime = cached.getFetchedDateTime();
+            }
+        } catch (RuntimeException ex) {
+            if (place.getOpeningHoursUpdatedDateTime() == null) {
+                throw ex;
+            }
+            // Stale hours are better than no details at all
+            logger.warn("Google lookup failed for place {}, serving stored details", placeId, ex);
+            return place;
+        }
 
         if (place.getIsPermanentlyClosed() == null)
         {
@@ -50,125 +163,231 @@ public class FeedService {
 
         if (placeDetails.getOpeningHours() != null)
         {
-            Map<String, List<Place.OpeningHoursPeriod>> openingHoursMap = convertToOpeningHoursMap(placeDetails.getOpeningHours());
+            Map<String, List<Place.OpeningHoursPeriod>> openingHoursMap = placeEnricher.convertToOpeningHoursMap(placeDetails.getOpeningHours());
             place.setOpeningHours(openingHoursMap);
         }
+        place.setOpeningHoursUpdatedDateTime(fetchedDateTime);
+        if (place.getEnrichmentState() == EnrichmentState.Pending) {
+            place.setEnrichmentState(EnrichmentState.Enriched);
+        }
 
         if (place.getFullAddress() == null)
         {
             place.setFullAddress(placeDetails.getFormattedAddress());
         }
 
+        if (place.getLatitude() == null && placeDetails.getLocation() != null)
+        {
+            place.setLatitude(placeDetails.getLocation().getLat());
+            place.setLongitude(placeDetails.getLocation().getLng());
+        }
+
+        placeRepository.save(place);
+        placeChanges.committed(List.of(place));
         return place;
     }
 
-    @Cacheable("placeDetails")
-    private PlaceDetailsResponse GetPlaceDetails(String googlePlaceId) {
-        return googleProxy.getPlaceDetails(googlePlaceId);
+    private boolean hasFreshDetails(Place place) {
+        Date hoursUpdated = place.getOpeningHoursUpdatedDateTime();
+        return hoursUpdated != null
+                && System.currentTimeMillis() - hoursUpdated.getTime() < openingHoursTtl.toMillis()
+                && place.getIsPermanentlyClosed() != null
+                && place.getFullAddress() != null;
     }
-    @Cacheable("placeDetails")
+
     private PlaceDetailsResponse GetPlaceDetailsByName(Place place) {
         try {
-            PlaceDetailsListResponse placeDetails = googleProxy.getPlaceDetailsByName(place.getName());
-            List<PlaceDetailsResponse> placeResponse = placeDetails.getPlaces();
-
-            if (placeResponse == null || placeResponse.isEmpty()) {
-                throw new IllegalArgumentException("No place found with name: " + place.getName());
-            }
-
-            PlaceDetailsResponse matchedPlace = placeResponse.getFirst();
+            PlaceDetailsResponse matchedPlace = placeEnricher.lookup(place);
             place.setGooglePlaceId(matchedPlace.getGooglePlaceId());
-            place.setFullAddress(matchedPlace.getFormattedAddress());
-            place.setWebsite(matchedPlace.getWebsite());
+            if (place.getFullAddress() == null) {
+                place.setFullAddress(matchedPlace.getFormattedAddress());
+            }
+            if (place.getWebsite() == null) {
+                place.setWebsite(matchedPlace.getWebsite());
+            }
             place.setIsPermanentlyClosed(matchedPlace.getBusinessStatus().contains("CLOSED"));
-            placeRepository.save(place);
-            invalidateCache("placeDetails", place.getPlaceId().toString());
             return matchedPlace;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    public List<Place> GetFeed(String type, Boolean visited) {
-        List<Place> allPlaces = placeRepository.findAll();
-        if (type.equalsIgnoreCase("ALL")) {
-            return allPlaces;
+    // openMinute is a minute of the week from ResolveOpenAt, or null for no opening-hours filter
+    public FeedPage GetFeed(String type, Boolean visited, String sort, String cursor, Integer limit, Integer openMinute) {
+        PlaceType placeType = type.equalsIgnoreCase("ALL") ? null : PlaceType.valueOf(type);
+        FeedSort feedSort = parseFeedSort(sort);
+
+        if (limit == null && (cursor == null || cursor.isBlank())) {
+            List<FeedItem> items = openMinute == null
+                    ? readFeed(placeType, visited, feedSort)
+                    : readFeedOpenAt(placeType, visited, feedSort, openMinute);
+            recordFeedSize("all", items.size());
+            return new FeedPage(items, null);
         }
-        PlaceType placeType = PlaceType.valueOf(type);
-        if (Boolean.TRUE.equals(visited)) {
-            return allPlaces.stream()
-                    .filter(place -> placeType.equals(place.getType()) && Boolean.TRUE.equals(place.getVisited()))
-                    .toList();
-        } else if (Boolean.FALSE.equals(visited)) {
-            return allPlaces.stream()
-                    .filter(place -> placeType.equals(place.getType()) && Boolean.FALSE.equals(place.getVisited()))
-                    .toList();
 
+        int pageSize = Math.clamp(limit == null ? DEFAULT_FEED_PAGE_SIZE : limit, 1, MAX_FEED_PAGE_SIZE);
+        FeedCursor after = cursor == null || cursor.isBlank() ? null : FeedCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without a count query
+        List<FeedItem> rows = openMinute == null
+                ? readFeedPage(placeType, visited, feedSort, after, pageSize + 1)
+                : readFeedPageOpenAt(placeType, visited, feedSort, after, pageSize + 1, openMinute);
+        recordFeedSize("page", Math.min(rows.size(), pageSize));
+        if (rows.size() <= pageSize) {
+            return new FeedPage(rows, null);
         }
-        return allPlaces.stream()
-                .filter(place -> placeType.equals(place.getType()))
-                .toList();
+        List<FeedItem> page = rows.subList(0, pageSize);
+        return new FeedPage(page, FeedCursor.from(page.getLast()).encode());
     }
 
-    @CachePut(value = "places", key = "#result.placeId.toString()")
-    public Place AddPlace(AddPlaceRequest request) {
-        Place newPlace = new Place();
-        newPlace.setPlaceId(UUID.randomUUID());
-        newPlace.setName(request.getName());
-        newPlace.setCuisine(request.getCuisine());
-        newPlace.setType(parsePlaceType(request.getType()));
-        newPlace.setLocation(request.getLocation());
-        newPlace.setInfluence(request.getInfluence());
-        newPlace.setVisited(parseVisited(request.getVisited()));
-        newPlace.setNotes(request.getNotes());
-        newPlace.setRating(request.getRating());
-        newPlace.setWebsite(request.getWebsite());
-        newPlace.setSocialMedia(request.getSocialMedia());
-        newPlace.setGooglePlaceId(request.getGooglePlaceId());
-        newPlace.setLastUpdatedDateTime(new Date());
-        newPlace.setCreatedDateTime(new Date());
+    // Straight from the index when it is on; otherwise a projection that reads only the list columns
+    private List<FeedItem> readFeed(PlaceType type, Boolean visited, FeedSort sort) {
+        return feedIndex != null
+                ? toFeedItems(feedIndex.find(type, visited, sort, null, Integer.MAX_VALUE))
+                : placeRepository.findFeedItems(type, visited, sort, null, Integer.MAX_VALUE);
+    }
 
-        PlaceDetailsResponse placeDetails = googleProxy.getPlaceDetails(request.getGooglePlaceId());
-        if (placeDetails != null)
-        {
-            newPlace.setIsPermanentlyClosed(placeDetails.getBusinessStatus().contains("CLOSED"));
-            if (!newPlace.getIsPermanentlyClosed())
-            {
-                newPlace.setOpeningHours(convertToOpeningHoursMap(placeDetails.getOpeningHours()));
-            }
-            newPlace.setFullAddress(placeDetails.getFormattedAddress());
-            newPlace.setWebsite(placeDetails.getWebsite());
-        }
+    private List<FeedItem> readFeedPage(PlaceType type, Boolean visited, FeedSort sort, FeedCursor after, int limit) {
+        return feedIndex != null
+                ? toFeedItems(feedIndex.find(type, visited, sort, after, limit))
+                : placeRepository.findFeedItems(type, visited, sort, after, limit);
+    }
 
+    // The openAt filter needs opening hours, so it works on whole places and projects the matches
+    private List<Place> readPlaces(PlaceType type, Boolean visited, FeedSort sort) {
+        return feedIndex != null
+                ? feedIndex.find(type, visited, sort, null, Integer.MAX_VALUE)
+                : placeRepository.findFeed(type, visited, sort);
+    }
 
-        placeRepository.save(newPlace);
-        return newPlace;
+    private List<Place> readPlacePage(PlaceType type, Boolean visited, FeedSort sort, FeedCursor after, int limit) {
+        return feedIndex != null
+                ? feedIndex.find(type, visited, sort, after, limit)
+                : placeRepository.findFeedPage(type, visited, sort, after, limit);
     }
 
-    private Map<String, List<Place.OpeningHoursPeriod>> convertToOpeningHoursMap(PlaceDetailsResponse.OpeningHour regularOpeningHours) {
-        Map<String, List<Place.OpeningHoursPeriod>> map = new HashMap<>();
+    private static List<FeedItem> toFeedItems(List<Place> places) {
+        List<FeedItem> items = new ArrayList<>(places.size());
+        for (Place place : places) {
+            items.add(FeedItem.from(place));
+        }
+        return items;
+    }
 
-        if (regularOpeningHours.getOpeningHours() != null) {
-            regularOpeningHours.getOpeningHours().forEach((day, periodList) -> {
-                List<Place.OpeningHoursPeriod> hoursPeriods = new ArrayList<>();
+    // Each filter's places with hours are cached once per feed version, projected and with their hours compiled,
+    // and the minute is applied per request; keyed by minute, openAt=now would miss every minute and hold a copy
+    // of the feed for each. The feed version in the key retires entries on any write. A racing miss loads twice
+    // rather than loading under Caffeine's bin monitor.
+    @SuppressWarnings("unchecked")
+    private List<FeedItem> readFeedOpenAt(PlaceType type, Boolean visited, FeedSort sort, int openMinute) {
+        String key = type + "|" + visited + "|" + sort + "|" + feedVersion.current();
+        Cache cache = cacheManager.getCache("feedOpenAt");
+        Cache.ValueWrapper cached = cache != null ? cache.get(key) : null;
+        List<OpenAtCandidate> candidates;
+        if (cached != null) {
+            candidates = (List<OpenAtCandidate>) cached.get();
+        } else {
+            // Places without hours are never open
+            candidates = readPlaces(type, visited, sort).stream()
+                    .filter(place -> place.getWeeklyHours() != WeeklyHours.NONE)
+                    .map(place -> new OpenAtCandidate(FeedItem.from(place), place.getWeeklyHours()))
+                    .toList();
+            if (cache != null) {
+                cache.putIfAbsent(key, candidates);
+            }
+        }
+        List<FeedItem> items = new ArrayList<>();
+        for (OpenAtCandidate candidate : candidates) {
+            if (candidate.hours().isOpenAt(openMinute)) {
+                items.add(candidate.item());
+            }
+        }
+        return items;
+    }
 
-                for (PlaceDetailsResponse.Period period : periodList) {
-                    Place.OpeningHoursPeriod hoursPeriod = new Place.OpeningHoursPeriod();
-                    hoursPeriod.setOpeningHour(period.getOpeningHour());
-                    hoursPeriod.setOpeningMinute(period.getOpeningMinute());
-                    hoursPeriod.setClosingHour(period.getClosingHour());
-                    hoursPeriod.setClosingMinute(period.getClosingMinute());
-                    hoursPeriods.add(hoursPeriod);
+    // Walks the feed from the cursor in keyset batches until the page is full of places open at that minute
+    private List<FeedItem> readFeedPageOpenAt(PlaceType type, Boolean visited, FeedSort sort, FeedCursor after,
+                                              int limit, int openMinute) {
+        List<FeedItem> matches = new ArrayList<>(limit);
+        FeedCursor from = after;
+        while (matches.size() < limit) {
+            List<Place> rows = readPlacePage(type, visited, sort, from, OPEN_AT_SCAN_BATCH);
+            for (Place place : rows) {
+                if (place.getWeeklyHours().isOpenAt(openMinute)) {
+                    matches.add(FeedItem.from(place));
+                    if (matches.size() == limit) {
+                        break;
+                    }
                 }
+            }
+            if (rows.size() < OPEN_AT_SCAN_BATCH) {
+                break;
+            }
+            from = FeedCursor.from(rows.getLast());
+        }
+        return matches;
+    }
+
+    // "now", a local date-time in the feed's zone, or an ISO date-time with an offset, as a minute of the week
+    public Integer ResolveOpenAt(String openAt) {
+        if (openAt == null || openAt.isBlank()) return null;
+        String value = openAt.trim();
+        LocalDateTime local;
+        try {
+            if (value.equalsIgnoreCase("now")) {
+                local = LocalDateTime.now(openAtZone);
+            } else if (value.endsWith("Z") || value.matches(".*[+-]\\d{2}:\\d{2}$")) {
+                local = OffsetDateTime.parse(value).atZoneSameInstant(openAtZone).toLocalDateTime();
+            } else {
+                local = LocalDateTime.parse(value);
+            }
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid openAt: " + openAt, ex);
+        }
+        return WeeklyHours.minuteOfWeek(local);
+    }
 
-                map.put(day, hoursPeriods);
+    // Runs the whole feed through a database cursor, handing each place to the sink as it is read.
+    // Must be called through the proxy so the read-only transaction keeps the cursor open.
+    @Transactional(readOnly = true)
+    public void StreamFeed(String type, Boolean visited, String sort, Consumer<Place> sink) {
+        PlaceType placeType = type.equalsIgnoreCase("ALL") ? null : PlaceType.valueOf(type);
+        int[] streamed = {0};
+        try (Stream<Place> places = placeRepository.streamFeed(placeType, visited, parseFeedSort(sort))) {
+            places.forEach(place -> {
+                sink.accept(place);
+                streamed[0]++;
             });
         }
+        meterRegistry.summary("feed.result.size", "mode", "stream", "source", "database").record(streamed[0]);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void BackfillFeedKeys() {
+        int updated = placeRepository.backfillLastUpdatedDateTime(new Date());
+        if (updated > 0) {
+            feedVersion.bump();
+            logger.info("Backfilled LastUpdatedDateTime on {} places", updated);
+        }
+        int stamped = placeRepository.backfillChangedDateTime(new Date());
+        if (stamped > 0) {
+            logger.info("Backfilled ChangedDateTime on {} places", stamped);
+        }
+        int versioned = placeRepository.backfillVersion();
+        if (versioned > 0) {
+            logger.info("Backfilled Version on {} places", versioned);
+        }
+    }
 
-        return map;
+    @CachePut(value = "places", key = "#result.placeId.toString()")
+    public Place AddPlace(AddPlaceRequest request) {
+        Place newPlace = newPlace(request, new Date());
+        placeRepository.save(newPlace);
+        placeChanges.committed(List.of(newPlace));
+        placeEnrichmentQueue.submit(newPlace.getPlaceId());
+        return newPlace;
     }
 
-    @CacheEvict(value = "places", key = "#placeId")
     public void UpdatePlace(String placeId, UpdatePlaceRequest request)
     {
         UUID convertedUuid = UUID.fromString(placeId);
@@ -183,22 +402,72 @@ public class FeedService {
         existingPlace.setLastUpdatedDateTime(new Date());
         existingPlace.setVisited(request.isVisited());
         placeRepository.save(existingPlace);
+        placeChanges.committed(List.of(existingPlace));
     }
 
-    @CacheEvict(value = "places", key = "#placeId")
     public void DeletePlace(String placeId) {
         UUID convertedUuid = UUID.fromString(placeId);
-        placeRepository.deleteById(convertedUuid);
+        if (placeRepository.softDelete(convertedUuid, new Date()) > 0) {
+            placeChanges.deleted(List.of(convertedUuid));
+        }
+    }
+
+    // Served entirely from the in-memory search index
+    public List<Place> SearchPlaces(String query, Integer limit) {
+        int size = Math.clamp(limit == null ? DEFAULT_SEARCH_LIMIT : limit, 1, MAX_SEARCH_LIMIT);
+        List<Place> results = placeSearchIndex.search(query, size);
+        meterRegistry.summary("search.result.size").record(results.size());
+        return results;
     }
 
-    public void UpdateDb(List<String> idList) {
-        for (String placeId : idList) {
-            Place place = GetPlace(placeId);
-            GetPlaceDetailsByName(place);
+    // Nearest first within the radius; without a radius this is a k-nearest query capped at the maximum radius
+    public List<NearbyPlace> GetNearbyPlaces(double latitude, double longitude, Double radiusMeters, Integer limit,
+                                             String type, Boolean visited) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + "," + longitude);
         }
+        double radius = radiusMeters == null
+                ? (limit == null ? DEFAULT_NEARBY_RADIUS_METERS : MAX_NEARBY_RADIUS_METERS)
+                : Math.clamp(radiusMeters, 0, MAX_NEARBY_RADIUS_METERS);
+        int size = Math.clamp(limit == null ? DEFAULT_NEARBY_LIMIT : limit, 1, MAX_NEARBY_LIMIT);
+        PlaceType placeType = type == null || type.equalsIgnoreCase("ALL") ? null : PlaceType.valueOf(type);
+        return placeGeoIndex.nearby(latitude, longitude, radius, size, placeType, visited);
+    }
+
+    public Optional<FeedIndexStats> GetFeedIndexStats() {
+        return Optional.ofNullable(feedIndex).map(FeedIndex::getStats);
+    }
+
+    public EnrichmentJobStatus UpdateDb(List<String> idList) {
+        List<UUID> placeIds = idList == null ? List.of() : idList.stream().map(UUID::fromString).toList();
+        return bulkEnrichmentService.Start(placeIds);
     }
 
-    private PlaceType parsePlaceType(String type) {
+    // Shared with PlaceTransferService so imported rows look exactly like added ones
+    static Place newPlace(AddPlaceRequest request, Date now) {
+        Place newPlace = new Place();
+        newPlace.setPlaceId(UUID.randomUUID());
+        newPlace.setName(request.getName());
+        newPlace.setCuisine(request.getCuisine());
+        newPlace.setType(parsePlaceType(request.getType()));
+        newPlace.setLocation(request.getLocation());
+        newPlace.setInfluence(request.getInfluence());
+        newPlace.setVisited(parseVisited(request.getVisited()));
+        newPlace.setNotes(request.getNotes());
+        newPlace.setRating(request.getRating());
+        newPlace.setWebsite(request.getWebsite());
+        newPlace.setSocialMedia(request.getSocialMedia());
+        newPlace.setGooglePlaceId(request.getGooglePlaceId());
+        newPlace.setLastUpdatedDateTime(now);
+        newPlace.setCreatedDateTime(now);
+        newPlace.setChangedDateTime(now);
+
+        // Google details are filled in by the enrichment queue so adds do not wait on (or fail with) Google
+        newPlace.setEnrichmentState(EnrichmentState.Pending);
+        return newPlace;
+    }
+
+    static PlaceType parsePlaceType(String type) {
         if (type == null || type.isBlank()) return null;
         try {
             return PlaceType.valueOf(type.trim());
@@ -207,17 +476,23 @@ public class FeedService {
         }
     }
 
-    private Boolean parseVisited(String visited) {
+    private FeedSort parseFeedSort(String sort) {
+        if (sort == null || sort.isBlank()) return FeedSort.Newest;
+        for (FeedSort value : FeedSort.values()) {
+            if (value.name().equalsIgnoreCase(sort.trim())) return value;
+        }
+        throw new IllegalArgumentException("Invalid feed sort: " + sort);
+    }
+
+    private static Boolean parseVisited(String visited) {
         if (visited == null || visited.isBlank()) return null;
         return Boolean.valueOf(visited.trim());
     }
 
-    private void invalidateCache(String cacheName, String key) {
-        Cache cache = cacheManager.getCache(cacheName);
-        if (cache != null) {
-            cache.evict(key);
-        }
+    private void recordFeedSize(String mode, int size) {
+        meterRegistry.summary("feed.result.size", "mode", mode, "source", feedIndex != null ? "index" : "database").record(size);
     }
 
-
+    private record OpenAtCandidate(FeedItem item, WeeklyHours hours) {
+    }
 }
@@ -0,0 +1,38 @@
+package com.bitebook.Services;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write counter for the Places table, bumped after every committed write made through this process.
+ * Its ETag lets feed and place reads answer If-None-Match with 304 before touching the database.
+ * The per-process epoch keeps tags from a previous run (or another instance) from ever matching.
+ * Tags are weak: one version is served as JSON, CBOR or Smile, gzipped or not, and Tomcat will not
+ * compress a response carrying a strong tag.
+ */
+@Component
+public class FeedVersion {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    // Call after the write has committed, so a reader can never pair the new tag with old rows
+    public void bump() {
+        version.incrementAndGet();
+    }
+
+    public String etag() {
+        return "W/\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    // For responses that also depend on something besides the data, such as the time they were asked about
+    public String etag(String variant) {
+        return "W/\"" + epoch + "-" + version.get() + "-" + variant + "\"";
+    }
+}
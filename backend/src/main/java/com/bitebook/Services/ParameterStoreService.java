@@ -1,33 +1,88 @@
 package com.bitebook.Services;
 
+import com.bitebook.Config.ParameterStorePropertySource;
+import com.bitebook.Config.SecretSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.ssm.SsmClient;
-import software.amazon.awssdk.services.ssm.model.GetParameterRequest;
-import software.amazon.awssdk.services.ssm.model.GetParameterResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
+
+/**
+ * Reads parameters loaded at startup by ParameterStoreEnvironmentPostProcessor. Names that were not loaded
+ * then are fetched together in one call and kept. When startup used the local snapshot, the real source
+ * is asked again once the app is ready and the snapshot is rewritten.
+ */
 @Service
 public class ParameterStoreService {
 
-    Logger logger = LoggerFactory.getLogger(FeedService.class);
+    Logger logger = LoggerFactory.getLogger(ParameterStoreService.class);
 
-    private final SsmClient ssmClient;
+    private final ConfigurableEnvironment environment;
+    // Null when bitebook.secrets.provider is none; everything then comes from the environment
+    private final ParameterStorePropertySource parameters;
 
-    public ParameterStoreService() {
-        this.ssmClient = SsmClient.builder()
-                .region(Region.AP_SOUTHEAST_2)
-                .build();
+    public ParameterStoreService(ConfigurableEnvironment environment) {
+        this.environment = environment;
+        this.parameters = (ParameterStorePropertySource) environment.getPropertySources().get(ParameterStorePropertySource.NAME);
     }
 
     public String getSecret(String parameterName) {
-        GetParameterRequest request = GetParameterRequest.builder()
-                .name(parameterName)
-                .withDecryption(true)
-                .build();
+        return getSecrets(parameterName).get(parameterName);
+    }
+
+    public Map<String, String> getSecrets(String... parameterNames) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : parameterNames) {
+            String value = environment.getProperty(name);
+            if (value != null) {
+                values.put(name, value);
+            } else {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            if (parameters == null) {
+                throw new IllegalStateException("Parameters not configured: " + missing);
+            }
+            Map<String, String> fetched = parameters.getSecretSource().fetch(missing);
+            fetched.forEach(parameters::put);
+            values.putAll(fetched);
+        }
+        return values;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshInBackground() {
+        if (parameters != null && parameters.isFromSnapshot()) {
+            Thread.ofVirtual().name("parameter-refresh").start(this::refresh);
+        }
+    }
 
-        GetParameterResponse response = ssmClient.getParameter(request);
-        return response.parameter().value();
+    // Values already bound into beans (the datasource password, CORS origins) only change on restart
+    public void refresh() {
+        try {
+            Map<String, String> fetched = parameters.getSecretSource().fetch(parameters.getNames());
+            List<String> changed = fetched.entrySet().stream()
+                    .filter(entry -> !entry.getValue().equals(parameters.getProperty(entry.getKey())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            fetched.forEach(parameters::put);
+            SecretSnapshot snapshot = parameters.getSnapshot();
+            if (snapshot != null) {
+                snapshot.write(fetched);
+            }
+            if (changed.isEmpty()) {
+                logger.info("Parameter snapshot confirmed against source");
+            } else {
+                logger.warn("Parameters {} changed since the snapshot; restart to apply them everywhere", changed);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Parameter refresh failed, keeping snapshot values", ex);
+        }
     }
-}
\ No newline at end of file
+}
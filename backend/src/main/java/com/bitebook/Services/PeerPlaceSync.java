@@ -0,0 +1,60 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.Place;
+import com.bitebook.Repositories.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Applies place writes made on other nodes to this node's in-memory state. The invalidation bus has already
+ * dropped the cached copies; this reloads the named places into the indexes, passes them on to this node's
+ * event subscribers and bumps the feed version, so ETags and openAt results issued here stop matching.
+ * When another node cleared the cache (a write burst, or messages were missed) the indexes are rebuilt and
+ * subscribers are told to refetch.
+ */
+@Service
+public class PeerPlaceSync {
+
+    private final Logger logger = LoggerFactory.getLogger(PeerPlaceSync.class);
+
+    private final PlaceRepository placeRepository;
+    private final PlaceIndexes placeIndexes;
+    private final PlaceChangePublisher placeChanges;
+
+    public PeerPlaceSync(CacheInvalidationBus invalidationBus,
+                         PlaceRepository placeRepository,
+                         PlaceIndexes placeIndexes,
+                         PlaceChangePublisher placeChanges) {
+        this.placeRepository = placeRepository;
+        this.placeIndexes = placeIndexes;
+        this.placeChanges = placeChanges;
+        invalidationBus.subscribe("places", this::apply);
+    }
+
+    void apply(Set<String> keys, boolean cleared) {
+        if (cleared) {
+            placeIndexes.rebuild();
+            placeChanges.reset();
+            return;
+        }
+
+        Set<UUID> placeIds = new HashSet<>();
+        for (String key : keys) {
+            try {
+                placeIds.add(UUID.fromString(key));
+            } catch (IllegalArgumentException ex) {
+                logger.debug("Ignoring invalidated key {} that is not a place id", key);
+            }
+        }
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        // Deleted places are filtered out of the read, so whatever is missing was deleted
+        List<Place> places = placeRepository.findAllById(placeIds);
+        places.forEach(place -> placeIds.remove(place.getPlaceId()));
+        placeChanges.received(places, placeIds);
+    }
+}
@@ -0,0 +1,84 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.Place;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Brings everything derived from the Places table up to date after a write has committed: the places cache
+ * (whose evictions are how other nodes hear about the write), the feed, search and geo indexes, event
+ * subscribers and the feed version. Every write path calls this once its transaction has committed, so
+ * indexes and ETags never show rows that could still roll back. Writes made on other nodes arrive through
+ * received, which skips the eviction so they are not broadcast back.
+ */
+@Service
+public class PlaceChangePublisher {
+
+    private final CacheManager cacheManager;
+    private final PlaceIndexes placeIndexes;
+    private final PlaceEventBroadcaster placeEvents;
+    private final FeedVersion feedVersion;
+
+    public PlaceChangePublisher(CacheManager cacheManager,
+                                PlaceIndexes placeIndexes,
+                                PlaceEventBroadcaster placeEvents,
+                                FeedVersion feedVersion) {
+        this.cacheManager = cacheManager;
+        this.placeIndexes = placeIndexes;
+        this.placeEvents = placeEvents;
+        this.feedVersion = feedVersion;
+    }
+
+    // Places added or updated here, as they now stand in the database
+    public void committed(Collection<Place> places) {
+        if (places.isEmpty()) {
+            return;
+        }
+        Cache cache = cacheManager.getCache("places");
+        if (cache != null) {
+            places.forEach(place -> cache.evict(place.getPlaceId().toString()));
+        }
+        apply(places, List.of());
+    }
+
+    // Places soft-deleted here
+    public void deleted(Collection<UUID> placeIds) {
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        Cache cache = cacheManager.getCache("places");
+        if (cache != null) {
+            placeIds.forEach(placeId -> cache.evict(placeId.toString()));
+        }
+        apply(List.of(), placeIds);
+    }
+
+    // Places another node wrote; the invalidation bus has already dropped this node's cached copies
+    public void received(Collection<Place> places, Collection<UUID> deletedIds) {
+        if (places.isEmpty() && deletedIds.isEmpty()) {
+            return;
+        }
+        apply(places, deletedIds);
+    }
+
+    // Another node's writes could not be followed one by one; subscribers must refetch
+    public void reset() {
+        placeEvents.publishReset();
+        feedVersion.bump();
+    }
+
+    private void apply(Collection<Place> places, Collection<UUID> deletedIds) {
+        places.forEach(placeIndexes::upsert);
+        for (UUID placeId : deletedIds) {
+            placeIndexes.remove(placeId);
+            placeEvents.publishDeleted(placeId);
+        }
+        placeEvents.publishAll(places);
+        feedVersion.bump();
+    }
+}
@@ -0,0 +1,139 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceChanges;
+import com.bitebook.Repositories.PlaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Delta sync for clients that keep a local copy of the places. A token is a position in
+ * (ChangedDateTime, PlaceId) order, so each call is a keyset scan over ix_places_changes that returns the
+ * places changed after it and the ids of places deleted after it. ChangedDateTime moves on every write,
+ * enrichment included, unlike LastUpdatedDateTime, which only follows edits. Deleted rows are kept as
+ * tombstones for the retention period and then purged; a token older than that gets a reset and a full resend.
+ * Timestamps are taken before commit, so the final token of a sync is held back by the settle window and
+ * the next call looks at that stretch again. Clients may see a change twice and apply changes idempotently.
+ */
+@Service
+public class PlaceChangesService {
+
+    private static final int DEFAULT_CHANGES_LIMIT = 500;
+    private static final int MAX_CHANGES_LIMIT = 2000;
+    // Sorts before every other id, so a token at this id covers all changes at a timestamp
+    private static final UUID FIRST_PLACE_ID = new UUID(0, 0);
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceChangesService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Longer than any write transaction takes to commit, imports included
+    @Value("${places.changes.settle-window:PT5M}")
+    private Duration settleWindow;
+
+    @Value("${places.tombstones.retention:P30D}")
+    private Duration tombstoneRetention;
+
+    public PlaceChanges GetChanges(String since, Integer limit) {
+        int size = Math.clamp(limit == null ? DEFAULT_CHANGES_LIMIT : limit, 1, MAX_CHANGES_LIMIT);
+        Date now = new Date();
+        FeedCursor cursor = since == null || since.isBlank() ? null : parseToken(since);
+        // Tombstones this old may already be purged, so deletions after the token could be missing
+        boolean reset = cursor != null
+                && cursor.getLastUpdatedDateTime().getTime() < now.getTime() - tombstoneRetention.toMillis();
+        if (reset) {
+            cursor = null;
+        }
+
+        // Starting from nothing there is no local copy to delete from, so tombstones are skipped
+        List<Change> changes = scan(cursor, cursor != null, size + 1);
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+
+        List<UUID> changedIds = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        for (Change change : changes) {
+            (change.deleted() ? deleted : changedIds).add(change.placeId());
+        }
+        Map<UUID, Place> loaded = new HashMap<>();
+        placeRepository.findAllById(changedIds).forEach(place -> loaded.put(place.getPlaceId(), place));
+        // A place deleted between the two reads is left out here; its tombstone is after this token
+        List<Place> places = changedIds.stream().map(loaded::get).filter(Objects::nonNull).toList();
+
+        FeedCursor last = changes.isEmpty()
+                ? cursor
+                : new FeedCursor(changes.getLast().changedDateTime(), changes.getLast().placeId());
+        FeedCursor next = last;
+        if (!hasMore) {
+            Date settled = new Date(now.getTime() - settleWindow.toMillis());
+            if (last == null || last.getLastUpdatedDateTime().after(settled)) {
+                next = new FeedCursor(settled, FIRST_PLACE_ID);
+            }
+        }
+        meterRegistry.summary("changes.result.size", "reset", String.valueOf(reset)).record(changes.size());
+        return new PlaceChanges(places, deleted, next.encode(), hasMore, reset);
+    }
+
+    @Scheduled(initialDelayString = "${places.tombstones.compact-interval:PT6H}", fixedDelayString = "${places.tombstones.compact-interval:PT6H}")
+    public void compactTombstones() {
+        Date cutoff = new Date(System.currentTimeMillis() - tombstoneRetention.toMillis());
+        int purged = jdbcTemplate.update("DELETE FROM \"Places\" WHERE \"DeletedDateTime\" < ?", new Timestamp(cutoff.getTime()));
+        if (purged > 0) {
+            logger.info("Purged {} tombstones deleted before {}", purged, cutoff);
+        }
+    }
+
+    // Plain JDBC: the entity mapping hides deleted rows, and only ids and keys are needed here
+    private List<Change> scan(FeedCursor cursor, boolean includeDeleted, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT \"PlaceId\", \"ChangedDateTime\", \"DeletedDateTime\" FROM \"Places\" WHERE \"ChangedDateTime\" IS NOT NULL");
+        List<Object> args = new ArrayList<>();
+        if (cursor != null) {
+            Timestamp after = new Timestamp(cursor.getLastUpdatedDateTime().getTime());
+            sql.append(" AND (\"ChangedDateTime\" > ? OR (\"ChangedDateTime\" = ? AND \"PlaceId\" > ?))");
+            args.add(after);
+            args.add(after);
+            args.add(cursor.getPlaceId());
+        }
+        if (!includeDeleted) {
+            sql.append(" AND \"DeletedDateTime\" IS NULL");
+        }
+        sql.append(" ORDER BY \"ChangedDateTime\", \"PlaceId\" LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, row) -> new Change(
+                rs.getObject("PlaceId", UUID.class),
+                new Date(rs.getTimestamp("ChangedDateTime").getTime()),
+                rs.getTimestamp("DeletedDateTime") != null), args.toArray());
+    }
+
+    private static FeedCursor parseToken(String token) {
+        try {
+            return FeedCursor.decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid changes token: " + token, ex);
+        }
+    }
+
+    private record Change(UUID placeId, Date changedDateTime, boolean deleted) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.bitebook.Services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV: comma separated, fields optionally double-quoted, quotes doubled inside quoted
+ * fields, which may also hold commas and line breaks. Records are read one at a time so an import never
+ * holds more than the current row.
+ */
+final class PlaceCsv {
+
+    private PlaceCsv() {
+    }
+
+    static final class RecordReader {
+        private final Reader reader;
+        private int line = 1;
+        private int recordLine = 1;
+        private int pending = -2;
+
+        RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        // Line the last record returned by next() started on
+        int getLine() {
+            return recordLine;
+        }
+
+        // Null at the end of input; blank lines are skipped
+        List<String> next() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean started = false;
+            recordLine = line;
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    if (quoted) {
+                        throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    if (!started) {
+                        return null;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        int after = read();
+                        if (after == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            unread(after);
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                    started = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    started = true;
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        int after = read();
+                        if (after != '\n') {
+                            unread(after);
+                        }
+                    }
+                    line++;
+                    if (!started && field.isEmpty()) {
+                        recordLine = line;
+                        continue;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                    started = true;
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private void unread(int c) {
+            pending = c;
+        }
+    }
+
+    static void writeRecord(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writeField(writer, value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,187 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.GooglePlacesApiClient;
+import com.bitebook.Models.CachedPlaceDetails;
+import com.bitebook.Models.PlaceDetailsResponse;
+import com.bitebook.Repositories.PlaceDetailsCacheRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Google place details keyed by googlePlaceId, kept in an in-process Caffeine tier backed by the
+ * PlaceDetailsCache table so a restart or eviction does not mean another paid Google call.
+ * Every caller reads business status or opening hours, so entries are fresh for as long as those are.
+ * An entry that has expired but is still within the stale-while-revalidate window is returned immediately
+ * while a background refresh runs, and any stored copy is served if Google is failing.
+ */
+@Service
+public class PlaceDetailsCache {
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceDetailsCache.class);
+
+    private final GooglePlacesApiClient googleProxy;
+    private final PlaceDetailsCacheRepository repository;
+    private final Duration volatileTtl;
+    private final Duration staleWhileRevalidate;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Cache<String, CachedPlaceDetails> local;
+    private final SingleFlight<String, CachedPlaceDetails> placeDetailsFlight;
+    private final MeterRegistry meterRegistry;
+
+    public PlaceDetailsCache(GooglePlacesApiClient googleProxy,
+                             PlaceDetailsCacheRepository repository,
+                             SingleFlight<String, CachedPlaceDetails> placeDetailsFlight,
+                             MeterRegistry meterRegistry,
+                             @Value("${google.places.cache.volatile-ttl:PT24H}") Duration volatileTtl,
+                             @Value("${google.places.cache.stale-while-revalidate:P7D}") Duration staleWhileRevalidate,
+                             @Value("${google.places.cache.maximum-size:1000}") long maximumSize) {
+        this.googleProxy = googleProxy;
+        this.repository = repository;
+        this.placeDetailsFlight = placeDetailsFlight;
+        this.meterRegistry = meterRegistry;
+        this.volatileTtl = volatileTtl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(volatileTtl.plus(staleWhileRevalidate))
+                .recordStats()
+                .build();
+        // Same tag keys Actuator puts on the Spring caches, or Prometheus rejects one of the two
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "placeDetails", "cache.manager", "placeDetailsCache", "name", "placeDetails");
+    }
+
+    public PlaceDetailsResponse get(String googlePlaceId) {
+        return getEntry(googlePlaceId).getResponse();
+    }
+
+    // Like get, but with the time Google returned the details, which can be well before now when a stale copy is served
+    public CachedPlaceDetails getEntry(String googlePlaceId) {
+        CachedPlaceDetails cached = local.getIfPresent(googlePlaceId);
+        if (isFresh(cached)) {
+            return cached;
+        }
+        if (isServableStale(cached)) {
+            refreshInBackground(googlePlaceId);
+            return cached;
+        }
+
+        // Concurrent misses for the same place share one database read and at most one Google call
+        return placeDetailsFlight.execute(googlePlaceId, () -> timedLoad(googlePlaceId));
+    }
+
+    // The local tier is filled with put, so Caffeine's own load statistics never move; misses are timed here
+    private CachedPlaceDetails timedLoad(String googlePlaceId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            CachedPlaceDetails loaded = load(googlePlaceId);
+            result = "success";
+            return loaded;
+        } finally {
+            sample.stop(meterRegistry.timer("cache.load", "cache", "placeDetails", "result", result));
+        }
+    }
+
+    private CachedPlaceDetails load(String googlePlaceId) {
+        CachedPlaceDetails cached = repository.findById(googlePlaceId).orElse(null);
+        if (isFresh(cached)) {
+            local.put(googlePlaceId, cached);
+            return cached;
+        }
+        if (isServableStale(cached)) {
+            local.put(googlePlaceId, cached);
+            refreshInBackground(googlePlaceId);
+            return cached;
+        }
+
+        try {
+            return fetch(googlePlaceId);
+        } catch (RuntimeException ex) {
+            if (cached == null || cached.getResponse() == null || !GooglePlacesApiClient.isTransientFailure(ex)) {
+                throw ex;
+            }
+            logger.warn("Google unavailable for {}, serving details fetched {}", googlePlaceId, cached.getFetchedDateTime(), ex);
+            return cached;
+        }
+    }
+
+    private CachedPlaceDetails fetch(String googlePlaceId) {
+        PlaceDetailsResponse response = googleProxy.getPlaceDetails(googlePlaceId);
+        CachedPlaceDetails entry = entry(googlePlaceId, response);
+        if (response != null) {
+            put(entry);
+        }
+        return entry;
+    }
+
+    private void refreshInBackground(String googlePlaceId) {
+        if (!refreshing.add(googlePlaceId)) {
+            return;
+        }
+        Thread.ofVirtual().name("place-details-refresh").start(() -> {
+            try {
+                fetch(googlePlaceId);
+            } catch (RuntimeException ex) {
+                logger.warn("Background refresh failed for {}", googlePlaceId, ex);
+            } finally {
+                refreshing.remove(googlePlaceId);
+            }
+        });
+    }
+
+    // Stores a response obtained elsewhere, e.g. a text search result, so the next details lookup is free
+    public void put(PlaceDetailsResponse response) {
+        if (response != null && response.getGooglePlaceId() != null) {
+            put(response.getGooglePlaceId(), response);
+        }
+    }
+
+    private void put(String googlePlaceId, PlaceDetailsResponse response) {
+        put(entry(googlePlaceId, response));
+    }
+
+    private void put(CachedPlaceDetails entry) {
+        local.put(entry.getGooglePlaceId(), entry);
+        try {
+            repository.save(entry);
+        } catch (RuntimeException ex) {
+            // The persistent tier is an optimisation; losing a write only costs a future Google call
+            logger.warn("Failed to persist place details for {}", entry.getGooglePlaceId(), ex);
+        }
+    }
+
+    private static CachedPlaceDetails entry(String googlePlaceId, PlaceDetailsResponse response) {
+        CachedPlaceDetails entry = new CachedPlaceDetails();
+        entry.setGooglePlaceId(googlePlaceId);
+        entry.setResponse(response);
+        entry.setFetchedDateTime(new Date());
+        return entry;
+    }
+
+    private boolean isFresh(CachedPlaceDetails cached) {
+        return isYoungerThan(cached, volatileTtl);
+    }
+
+    private boolean isServableStale(CachedPlaceDetails cached) {
+        return isYoungerThan(cached, volatileTtl.plus(staleWhileRevalidate));
+    }
+
+    private static boolean isYoungerThan(CachedPlaceDetails cached, Duration age) {
+        if (cached == null || cached.getFetchedDateTime() == null || cached.getResponse() == null) {
+            return false;
+        }
+        return System.currentTimeMillis() - cached.getFetchedDateTime().getTime() < age.toMillis();
+    }
+}
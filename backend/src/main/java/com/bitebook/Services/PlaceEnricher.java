@@ -0,0 +1,87 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.GooglePlacesApiClient;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceDetailsListResponse;
+import com.bitebook.Models.PlaceDetailsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class PlaceEnricher {
+
+    @Autowired
+    private GooglePlacesApiClient googleProxy;
+
+    @Autowired
+    private PlaceDetailsCache placeDetailsCache;
+
+    @Autowired
+    private SingleFlight<String, PlaceDetailsListResponse> placeSearchFlight;
+
+    // Looks the place up by googlePlaceId when we have one, otherwise by name
+    public PlaceDetailsResponse lookup(Place place) {
+        if (place.getGooglePlaceId() != null) {
+            return placeDetailsCache.get(place.getGooglePlaceId());
+        }
+
+        PlaceDetailsListResponse placeDetails = placeSearchFlight.execute(place.getName(),
+                () -> googleProxy.getPlaceDetailsByName(place.getName()));
+        List<PlaceDetailsResponse> placeResponse = placeDetails == null ? null : placeDetails.getPlaces();
+        if (placeResponse == null || placeResponse.isEmpty()) {
+            throw new IllegalArgumentException("No place found with name: " + place.getName());
+        }
+        PlaceDetailsResponse matchedPlace = placeResponse.getFirst();
+        placeDetailsCache.put(matchedPlace);
+        return matchedPlace;
+    }
+
+    // Copies Google's business status and hours onto a newly added place, and its address, coordinates and website
+    // where the place has none; the place may have been edited since it was saved
+    public void apply(Place place, PlaceDetailsResponse placeDetails) {
+        if (place.getGooglePlaceId() == null) {
+            place.setGooglePlaceId(placeDetails.getGooglePlaceId());
+        }
+        boolean closed = placeDetails.getBusinessStatus() != null && placeDetails.getBusinessStatus().contains("CLOSED");
+        place.setIsPermanentlyClosed(closed);
+        if (!closed && placeDetails.getOpeningHours() != null) {
+            place.setOpeningHours(convertToOpeningHoursMap(placeDetails.getOpeningHours()));
+        }
+        place.setOpeningHoursUpdatedDateTime(new Date());
+        if (place.getFullAddress() == null) {
+            place.setFullAddress(placeDetails.getFormattedAddress());
+        }
+        if (place.getLatitude() == null && placeDetails.getLocation() != null) {
+            place.setLatitude(placeDetails.getLocation().getLat());
+            place.setLongitude(placeDetails.getLocation().getLng());
+        }
+        if (place.getWebsite() == null) {
+            place.setWebsite(placeDetails.getWebsite());
+        }
+    }
+
+    public Map<String, List<Place.OpeningHoursPeriod>> convertToOpeningHoursMap(PlaceDetailsResponse.OpeningHour regularOpeningHours) {
+        Map<String, List<Place.OpeningHoursPeriod>> map = new HashMap<>();
+
+        if (regularOpeningHours.getOpeningHours() != null) {
+            regularOpeningHours.getOpeningHours().forEach((day, periodList) -> {
+                List<Place.OpeningHoursPeriod> hoursPeriods = new ArrayList<>();
+
+                for (PlaceDetailsResponse.Period period : periodList) {
+                    Place.OpeningHoursPeriod hoursPeriod = new Place.OpeningHoursPeriod();
+                    hoursPeriod.setOpeningHour(period.getOpeningHour());
+                    hoursPeriod.setOpeningMinute(period.getOpeningMinute());
+                    hoursPeriod.setClosingHour(period.getClosingHour());
+                    hoursPeriod.setClosingMinute(period.getClosingMinute());
+                    hoursPeriods.add(hoursPeriod);
+                }
+
+                map.put(day, hoursPeriods);
+            });
+        }
+
+        return map;
+    }
+}
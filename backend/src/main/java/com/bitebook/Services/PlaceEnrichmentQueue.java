@@ -0,0 +1,185 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.GooglePlacesApiClient;
+import com.bitebook.Models.EnrichmentState;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceDetailsResponse;
+import com.bitebook.Repositories.PlaceRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Background enrichment for newly added places. AddPlace only inserts the row and submits its id here;
+ * a worker drains the bounded queue in batches, looks each place up on Google, and writes the results
+ * back in one transaction. Transient failures are retried with backoff, and anything that could not be
+ * queued (full queue, restart) is picked up again by a periodic sweep of Pending places.
+ */
+@Service
+public class PlaceEnrichmentQueue {
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceEnrichmentQueue.class);
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceEnricher placeEnricher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlaceChangePublisher placeChanges;
+
+    @Value("${enrichment.queue.batch-size:20}")
+    private int batchSize;
+
+    @Value("${enrichment.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${enrichment.queue.retry-backoff:PT2S}")
+    private Duration retryBackoff;
+
+    private final BlockingQueue<Task> queue;
+    // Ids queued, in flight or waiting for a retry, so the sweep does not enqueue them twice
+    private final Set<UUID> tracked = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService retries = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("enrichment-retry").daemon().factory());
+    private volatile Thread worker;
+
+    public PlaceEnrichmentQueue(@Value("${enrichment.queue.capacity:1000}") int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    // Returns false when the queue is full; the place stays Pending and the sweep will retry it
+    public boolean submit(UUID placeId) {
+        if (!tracked.add(placeId)) {
+            return true;
+        }
+        if (queue.offer(new Task(placeId, 1))) {
+            return true;
+        }
+        tracked.remove(placeId);
+        logger.warn("Enrichment queue full, leaving place {} for the next sweep", placeId);
+        return false;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = Thread.ofVirtual().name("enrichment-worker").start(this::drain);
+    }
+
+    @PreDestroy
+    public void stop() {
+        retries.shutdownNow();
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${enrichment.queue.sweep-interval:PT1M}", fixedDelayString = "${enrichment.queue.sweep-interval:PT1M}")
+    public void sweep() {
+        for (UUID placeId : placeRepository.findIdsByEnrichmentState(EnrichmentState.Pending)) {
+            if (!submit(placeId)) {
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        List<Task> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                logger.error("Enrichment batch failed", ex);
+                batch.forEach(task -> tracked.remove(task.placeId()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Task> batch) {
+        Map<UUID, Task> tasks = new HashMap<>();
+        batch.forEach(task -> tasks.put(task.placeId(), task));
+
+        Map<UUID, PlaceDetailsResponse> enriched = new HashMap<>();
+        List<UUID> failed = new ArrayList<>();
+        Set<UUID> found = new HashSet<>();
+        for (Place place : placeRepository.findAllById(tasks.keySet())) {
+            found.add(place.getPlaceId());
+            Task task = tasks.get(place.getPlaceId());
+            try {
+                enriched.put(place.getPlaceId(), placeEnricher.lookup(place));
+            } catch (RuntimeException ex) {
+                if (task.attempt() < maxAttempts && GooglePlacesApiClient.isTransientFailure(ex)) {
+                    scheduleRetry(task);
+                } else {
+                    logger.warn("Enrichment failed for place {} after {} attempt(s)", place.getPlaceId(), task.attempt(), ex);
+                    failed.add(place.getPlaceId());
+                }
+            }
+        }
+
+        if (!enriched.isEmpty() || !failed.isEmpty()) {
+            List<Place> saved = transactionTemplate.execute(status -> {
+                List<Place> places = placeRepository.findAllById(union(enriched.keySet(), failed));
+                for (Place place : places) {
+                    PlaceDetailsResponse details = enriched.get(place.getPlaceId());
+                    if (details != null) {
+                        placeEnricher.apply(place, details);
+                        place.setEnrichmentState(EnrichmentState.Enriched);
+                    } else {
+                        place.setEnrichmentState(EnrichmentState.Failed);
+                    }
+                }
+                return placeRepository.saveAll(places);
+            });
+            placeChanges.committed(saved);
+        }
+
+        enriched.keySet().forEach(tracked::remove);
+        failed.forEach(tracked::remove);
+        // Places deleted before their turn came
+        tasks.keySet().stream().filter(id -> !found.contains(id)).forEach(tracked::remove);
+    }
+
+    private void scheduleRetry(Task task) {
+        long delay = retryBackoff.toMillis() << (task.attempt() - 1);
+        retries.schedule(() -> {
+            if (!queue.offer(new Task(task.placeId(), task.attempt() + 1))) {
+                tracked.remove(task.placeId());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static List<UUID> union(Collection<UUID> first, Collection<UUID> second) {
+        List<UUID> ids = new ArrayList<>(first);
+        ids.addAll(second);
+        return ids;
+    }
+
+    private record Task(UUID placeId, int attempt) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.Place;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes place changes to open clients over Server-Sent Events. Write paths publish here once committed, next
+ * to their index updates. Each event is serialized once, kept in a replay ring and offered to every
+ * subscriber's bounded queue, which a virtual thread per subscriber drains onto the connection. A subscriber
+ * whose queue is full is disconnected rather than allowed to hold up writers or other subscribers.
+ * Browsers reconnect with Last-Event-ID and resume from the ring; when the ring no longer covers the gap
+ * they get a reset event and refetch. Event ids only mean something to the process that issued them.
+ */
+@Service
+public class PlaceEventBroadcaster {
+
+    public static final String UPSERTED = "upserted";
+    public static final String DELETED = "deleted";
+    public static final String RESET = "reset";
+
+    // Tells a subscriber's writer to finish the response
+    private static final Event CLOSE = new Event(null, null, null);
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceEventBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final Duration heartbeat;
+    private final Duration timeout;
+    private final Duration retryAfter;
+    private final Counter dropped;
+
+    // Ids from an earlier run of the process cannot be resumed from this ring
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Event[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextSequence = 1;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public PlaceEventBroadcaster(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${feed.events.replay-size:1000}") int replaySize,
+                                 @Value("${feed.events.subscriber-buffer:256}") int subscriberBuffer,
+                                 @Value("${feed.events.max-subscribers:1000}") int maxSubscribers,
+                                 @Value("${feed.events.heartbeat:PT20S}") Duration heartbeat,
+                                 @Value("${feed.events.timeout:PT30M}") Duration timeout,
+                                 @Value("${feed.events.retry-after:PT30S}") Duration retryAfter) {
+        this.objectMapper = objectMapper;
+        this.ring = new Event[replaySize];
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+        this.dropped = meterRegistry.counter("feed.events.dropped");
+        meterRegistry.gaugeCollectionSize("feed.events.subscribers", Tags.empty(), subscribers);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new PlaceEventsUnavailableException("Too many feed event subscribers", retryAfter);
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(subscriberBuffer));
+        lock.lock();
+        try {
+            // Under the lock, so nothing is published between the replay and joining the live stream
+            List<Event> replay = replay(lastEventId);
+            if (replay == null) {
+                subscriber.queue.offer(new Event(id(nextSequence - 1), RESET, "{}"));
+            } else {
+                replay.forEach(subscriber.queue::offer);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(ex -> close(subscriber));
+        Thread.ofVirtual().name("feed-events").start(() -> drain(subscriber));
+        return emitter;
+    }
+
+    public void publish(Place place) {
+        try {
+            append(UPSERTED, objectMapper.writeValueAsString(place));
+        } catch (JsonProcessingException ex) {
+            logger.warn("Could not serialize place {} for subscribers", place.getPlaceId(), ex);
+            append(RESET, "{}");
+        }
+    }
+
+    // Large batches (imports, bulk enrichment) become one reset rather than flooding and dropping every subscriber
+    public void publishAll(Collection<Place> places) {
+        if (places.size() > subscriberBuffer / 2) {
+            publishReset();
+            return;
+        }
+        places.forEach(this::publish);
+    }
+
+    public void publishDeleted(UUID placeId) {
+        append(DELETED, "{\"placeId\":\"" + placeId + "\"}");
+    }
+
+    // Tells every subscriber to refetch, for changes too large or too vague to describe place by place
+    public void publishReset() {
+        append(RESET, "{}");
+    }
+
+    private void append(String name, String data) {
+        lock.lock();
+        try {
+            long sequence = nextSequence++;
+            Event event = new Event(id(sequence), name, data);
+            ring[(int) (sequence % ring.length)] = event;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(event)) {
+                    dropped.increment();
+                    close(subscriber);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The events after lastEventId, or null when they are no longer all in the ring; caller holds the lock
+    private List<Event> replay(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        long last;
+        int separator = lastEventId.lastIndexOf('-');
+        try {
+            if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+                return null;
+            }
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        long oldest = Math.max(1, nextSequence - ring.length);
+        if (last >= nextSequence || last + 1 < oldest || nextSequence - 1 - last > subscriberBuffer) {
+            return null;
+        }
+        List<Event> events = new ArrayList<>();
+        for (long sequence = last + 1; sequence < nextSequence; sequence++) {
+            events.add(ring[(int) (sequence % ring.length)]);
+        }
+        return events;
+    }
+
+    private String id(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            // Queued events are dropped; the client resumes them from the ring when it reconnects
+            subscriber.queue.clear();
+            subscriber.queue.offer(CLOSE);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                Event event = subscriber.queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                if (event == CLOSE) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+                if (event == null) {
+                    // Keeps proxies from closing an idle stream and finds clients that have gone away
+                    subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event().id(event.id()).name(event.name()).data(event.data()));
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away or the response already finished
+            close(subscriber);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            close(subscriber);
+        }
+    }
+
+    private record Event(String id, String name, String data) {
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Event> queue) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.bitebook.Services;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+// Every subscriber slot is taken; Retry-After tells the client to wait rather than reconnect straight away
+public class PlaceEventsUnavailableException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    public PlaceEventsUnavailableException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter.toSeconds()));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
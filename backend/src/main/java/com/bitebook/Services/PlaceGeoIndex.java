@@ -0,0 +1,232 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.PlaceIndex;
+import com.bitebook.Models.NearbyPlace;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uniform latitude/longitude grid over places that have coordinates. A query visits the cells of the radius'
+ * bounding box in rings around the centre cell and stops as soon as no unvisited cell can be closer than the
+ * radius, or than the furthest of the nearest `limit` places found so far, so only places near the centre are
+ * measured. When the box has more cells than there are places (near a pole, or a very wide radius) every
+ * place is measured instead.
+ * Cells are immutable arrays replaced on write, so readers never lock.
+ * Like FeedIndex, indexed Place instances are shared with callers and must be treated as read-only.
+ */
+@Service
+public class PlaceGeoIndex implements PlaceIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceGeoIndex.class);
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+
+    private volatile Grid grid = new Grid();
+
+    public PlaceGeoIndex(@Value("${geo.index.cell-size-degrees:0.01}") double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    @Override
+    public Runnable load(List<Place> places) {
+        Grid rebuilt = new Grid();
+        for (Place place : places) {
+            rebuilt.add(place);
+        }
+        logger.info("Geo index rebuilt with {} located places in {} cells", rebuilt.byId.size(), rebuilt.cells.size());
+        return () -> {
+            synchronized (this) {
+                grid = rebuilt;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void upsert(Place place) {
+        grid.add(place);
+    }
+
+    @Override
+    public synchronized void remove(UUID placeId) {
+        grid.remove(placeId);
+    }
+
+    /**
+     * Places within radiusMeters of the point, nearest first, at most limit of them.
+     * Null type or visited means any.
+     */
+    public List<NearbyPlace> nearby(double latitude, double longitude, double radiusMeters, int limit,
+                                    PlaceType type, Boolean visited) {
+        Grid current = grid;
+        int centreRow = row(latitude);
+        int centreColumn = column(longitude);
+        // Only cells inside the radius' latitude/longitude bounding box can hold a match. Near a pole, or
+        // for a radius wider than a hemisphere, the box spans every column
+        double angularRadius = radiusMeters / EARTH_RADIUS_METERS;
+        double latitudeDegrees = Math.toDegrees(angularRadius);
+        int rowRadius = (int) Math.ceil(latitudeDegrees / cellDegrees) + 1;
+        int columnSpan = columns / 2;
+        if (Math.abs(latitude) + latitudeDegrees < 90) {
+            double longitudeDegrees = Math.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude))));
+            columnSpan = (int) Math.min(Math.ceil(longitudeDegrees / cellDegrees) + 1, columnSpan);
+        }
+        long boxCells = (long) (Math.min(centreRow + rowRadius, rows - 1) - Math.max(centreRow - rowRadius, 0) + 1)
+                * Math.min(2L * columnSpan + 1, columns);
+
+        // Max-heap on distance holding the best `limit` so far
+        PriorityQueue<NearbyPlace> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(NearbyPlace::getDistanceMeters).reversed());
+        if (boxCells > current.byId.size()) {
+            // Visiting the box would touch more cells than there are places
+            for (Place[] cell : current.cells.values()) {
+                offer(nearest, cell, latitude, longitude, radiusMeters, limit, type, visited);
+            }
+        } else {
+            // Anything in ring r is at least r - 1 cell widths away; columns are narrowest at the most polar
+            // latitude the search can reach, so that width is the safe lower bound
+            double furthestLatitude = Math.min(Math.abs(latitude) + latitudeDegrees + cellDegrees, 90);
+            double cellMeters = cellDegrees * METERS_PER_DEGREE * Math.cos(Math.toRadians(furthestLatitude));
+            int maxRing = Math.max(rowRadius, columnSpan);
+            for (int ring = 0; ring <= maxRing; ring++) {
+                double ringMinimum = Math.max(ring - 1, 0) * cellMeters;
+                if (ringMinimum > radiusMeters || (nearest.size() == limit && ringMinimum > nearest.peek().getDistanceMeters())) {
+                    break;
+                }
+                for (long key : ringCells(centreRow, centreColumn, ring, rowRadius, columnSpan)) {
+                    Place[] cell = current.cells.get(key);
+                    if (cell != null) {
+                        offer(nearest, cell, latitude, longitude, radiusMeters, limit, type, visited);
+                    }
+                }
+            }
+        }
+
+        List<NearbyPlace> results = new ArrayList<>(nearest);
+        results.sort(Comparator.comparingDouble(NearbyPlace::getDistanceMeters));
+        return results;
+    }
+
+    private static void offer(PriorityQueue<NearbyPlace> nearest, Place[] cell, double latitude, double longitude,
+                              double radiusMeters, int limit, PlaceType type, Boolean visited) {
+        for (Place place : cell) {
+            if ((type != null && type != place.getType()) || (visited != null && !visited.equals(place.getVisited()))) {
+                continue;
+            }
+            double distance = haversineMeters(latitude, longitude, place.getLatitude(), place.getLongitude());
+            if (distance > radiusMeters) {
+                continue;
+            }
+            if (nearest.size() < limit) {
+                nearest.add(new NearbyPlace(place, distance));
+            } else if (distance < nearest.peek().getDistanceMeters()) {
+                nearest.poll();
+                nearest.add(new NearbyPlace(place, distance));
+            }
+        }
+    }
+
+    static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Keys of the cells exactly `ring` cells away from the centre and inside the bounding box;
+    // columns wrap at the antimeridian
+    private List<Long> ringCells(int centreRow, int centreColumn, int ring, int rowRadius, int columnSpan) {
+        List<Long> keys = new ArrayList<>();
+        if (ring == 0) {
+            keys.add(key(centreRow, centreColumn));
+            return keys;
+        }
+        int span = Math.min(ring, columnSpan);
+        Set<Long> seen = new HashSet<>();
+        for (int dRow = -Math.min(ring, rowRadius); dRow <= Math.min(ring, rowRadius); dRow++) {
+            int row = centreRow + dRow;
+            if (row < 0 || row >= rows) {
+                continue;
+            }
+            if (Math.abs(dRow) == ring) {
+                for (int dColumn = -span; dColumn <= span; dColumn++) {
+                    long key = key(row, Math.floorMod(centreColumn + dColumn, columns));
+                    if (seen.add(key)) {
+                        keys.add(key);
+                    }
+                }
+            } else if (ring <= columnSpan) {
+                for (int dColumn : new int[] {-ring, ring}) {
+                    long key = key(row, Math.floorMod(centreColumn + dColumn, columns));
+                    if (seen.add(key)) {
+                        keys.add(key);
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    private int row(double latitude) {
+        return Math.clamp((int) Math.floor((latitude + 90) / cellDegrees), 0, rows - 1);
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private long key(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    private static boolean isLocated(Place place) {
+        return place.getLatitude() != null && place.getLongitude() != null;
+    }
+
+    /** Mutated only under the index monitor; cell arrays are never modified after being published. */
+    private final class Grid {
+        private final Map<UUID, Long> byId = new ConcurrentHashMap<>();
+        private final Map<Long, Place[]> cells = new ConcurrentHashMap<>();
+
+        void add(Place place) {
+            remove(place.getPlaceId());
+            if (!isLocated(place)) {
+                return;
+            }
+            long key = key(row(place.getLatitude()), column(place.getLongitude()));
+            Place[] cell = cells.getOrDefault(key, new Place[0]);
+            Place[] copy = Arrays.copyOf(cell, cell.length + 1);
+            copy[cell.length] = place;
+            cells.put(key, copy);
+            byId.put(place.getPlaceId(), key);
+        }
+
+        void remove(UUID placeId) {
+            Long key = byId.remove(placeId);
+            if (key == null) {
+                return;
+            }
+            Place[] cell = cells.get(key);
+            Place[] remaining = Arrays.stream(cell).filter(p -> !p.getPlaceId().equals(placeId)).toArray(Place[]::new);
+            if (remaining.length == 0) {
+                cells.remove(key);
+            } else {
+                cells.put(key, remaining);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.PlaceIndex;
+import com.bitebook.Models.Place;
+import com.bitebook.Repositories.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps every PlaceIndex (feed, search, geo) in step with the Places table. Writes are applied to all of them;
+ * a rebuild reads the table once, builds each replacement, then swaps them in and replays the writes that
+ * landed while the table was being read. Rebuilds run at startup, on a schedule to catch writes that never
+ * came through PlaceChangePublisher (manual SQL), and when another node's changes could not be followed.
+ */
+@Service
+public class PlaceIndexes {
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceIndexes.class);
+
+    private final PlaceRepository placeRepository;
+    private final List<PlaceIndex> indexes;
+
+    // Writes that land while a rebuild is reading the table, replayed onto the rebuilt indexes
+    private List<Runnable> pendingDuringRebuild;
+
+    public PlaceIndexes(PlaceRepository placeRepository, List<PlaceIndex> indexes) {
+        this.placeRepository = placeRepository;
+        this.indexes = indexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${place.index.reconcile-interval:PT5M}", fixedDelayString = "${place.index.reconcile-interval:PT5M}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (this) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            List<Place> places = placeRepository.findAll();
+            List<Runnable> swaps = new ArrayList<>(indexes.size());
+            for (PlaceIndex index : indexes) {
+                swaps.add(index.load(places));
+            }
+            synchronized (this) {
+                swaps.forEach(Runnable::run);
+                pendingDuringRebuild.forEach(Runnable::run);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Place index rebuild failed, keeping previous indexes", ex);
+        } finally {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    public synchronized void upsert(Place place) {
+        apply(() -> indexes.forEach(index -> index.upsert(place)));
+    }
+
+    public synchronized void remove(UUID placeId) {
+        apply(() -> indexes.forEach(index -> index.remove(placeId)));
+    }
+
+    private void apply(Runnable change) {
+        change.run();
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(change);
+        }
+    }
+}
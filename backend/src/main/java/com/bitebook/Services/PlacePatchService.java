@@ -0,0 +1,248 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlacePatch;
+import com.bitebook.Models.PlacePatchResult;
+import com.bitebook.Models.PlaceType;
+import com.bitebook.Repositories.PlaceRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Partial updates. Each patch becomes one UPDATE that names only the supplied columns, so edits to different
+ * fields of a place no longer overwrite each other. A patch carrying the version the client last read is
+ * guarded by it and refused as a conflict once someone else has edited the place. Batches group patches by
+ * the columns they set and send each group as one JDBC batch, all in one transaction. The updated rows are
+ * then read back by id in one query to refresh the cache and the in-memory indexes.
+ */
+@Service
+public class PlacePatchService {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    // In column order, so patches setting the same fields produce the same statement and share a batch
+    private static final List<Field> FIELDS = List.of(
+            new Field("name", "\"Name\"", Types.VARCHAR, false, PlacePatchService::name),
+            new Field("cuisine", "\"Cuisine\"", Types.VARCHAR, true, PlacePatchService::text),
+            new Field("type", "\"Type\"", Types.VARCHAR, true, PlacePatchService::type),
+            new Field("location", "\"Location\"", Types.VARCHAR, true, PlacePatchService::text),
+            new Field("influence", "\"Influence\"", Types.VARCHAR, true, PlacePatchService::text),
+            new Field("visited", "\"Visited\"", Types.BOOLEAN, true, PlacePatchService::bool),
+            new Field("notes", "\"Notes\"", Types.VARCHAR, true, PlacePatchService::text),
+            new Field("rating", "\"Rating\"", Types.DOUBLE, true, PlacePatchService::number),
+            new Field("website", "\"Website\"", Types.VARCHAR, true, PlacePatchService::text),
+            new Field("socialMedia", "\"SocialMedia\"", Types.VARCHAR, true, PlacePatchService::text));
+    private static final Map<String, Field> FIELDS_BY_NAME = FIELDS.stream()
+            .collect(Collectors.toMap(Field::name, Function.identity()));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlaceChangePublisher placeChanges;
+
+    public Place PatchPlace(String placeId, PlacePatch patch) {
+        UUID convertedUuid = UUID.fromString(placeId);
+        patch.setPlaceId(convertedUuid);
+        Outcome outcome = apply(List.of(patch));
+        PlacePatchResult result = outcome.results().getFirst();
+        return switch (result.getStatus()) {
+            case Updated -> outcome.updated().get(convertedUuid);
+            case Conflict -> throw new PlaceVersionConflictException("Place " + convertedUuid + " is at version "
+                    + result.getVersion() + ", not " + patch.getVersion());
+            case NotFound -> throw new IllegalArgumentException("Place not found: " + convertedUuid);
+            case Invalid -> throw new IllegalArgumentException(result.getError());
+        };
+    }
+
+    // One result per patch, in request order; a rejected or conflicting patch does not hold back the others
+    public List<PlacePatchResult> PatchPlaces(List<PlacePatch> patches) {
+        if (patches == null || patches.isEmpty()) {
+            return List.of();
+        }
+        if (patches.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batches are limited to " + MAX_BATCH_SIZE + " patches");
+        }
+        return apply(patches).results();
+    }
+
+    private Outcome apply(List<PlacePatch> patches) {
+        Date now = new Date();
+        PlacePatchResult[] results = new PlacePatchResult[patches.size()];
+        Update[] updates = new Update[patches.size()];
+        Map<String, List<Integer>> batches = new LinkedHashMap<>();
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < patches.size(); i++) {
+            PlacePatch patch = patches.get(i);
+            UUID placeId = patch.getPlaceId();
+            if (placeId == null) {
+                results[i] = invalid(null, "Missing placeId");
+                continue;
+            }
+            // Two patches to one place would race each other's version check inside the same batch
+            if (!seen.add(placeId)) {
+                results[i] = invalid(placeId, "Place is patched more than once");
+                continue;
+            }
+            try {
+                updates[i] = prepare(patch, now);
+            } catch (IllegalArgumentException ex) {
+                results[i] = invalid(placeId, ex.getMessage());
+                continue;
+            }
+            batches.computeIfAbsent(updates[i].sql(), sql -> new ArrayList<>()).add(i);
+        }
+        if (batches.isEmpty()) {
+            return new Outcome(Arrays.asList(results), Map.of());
+        }
+
+        int[] rowCounts = new int[patches.size()];
+        transactionTemplate.executeWithoutResult(status -> {
+            for (List<Integer> batch : batches.values()) {
+                Update first = updates[batch.getFirst()];
+                List<Object[]> rows = batch.stream().map(i -> updates[i].args()).toList();
+                // JDBC batches bypass the repository invocation timers, so they get their own
+                int[] counts = meterRegistry.timer("db.batch", "operation", "patch")
+                        .record(() -> jdbcTemplate.batchUpdate(first.sql(), rows, first.types()));
+                for (int j = 0; j < batch.size(); j++) {
+                    rowCounts[batch.get(j)] = counts[j];
+                }
+            }
+        });
+
+        // The read-back also tells a missing place from one that has moved past the patch's version
+        Map<UUID, Place> current = new HashMap<>();
+        List<UUID> placeIds = batches.values().stream().flatMap(List::stream).map(i -> patches.get(i).getPlaceId()).toList();
+        placeRepository.findAllById(placeIds).forEach(place -> current.put(place.getPlaceId(), place));
+
+        Map<UUID, Place> updated = new HashMap<>();
+        for (List<Integer> batch : batches.values()) {
+            for (int i : batch) {
+                UUID placeId = patches.get(i).getPlaceId();
+                Place place = current.get(placeId);
+                if (place == null) {
+                    results[i] = new PlacePatchResult(placeId, PlacePatchResult.Status.NotFound, null, null);
+                } else if (rowCounts[i] == 0) {
+                    results[i] = new PlacePatchResult(placeId, PlacePatchResult.Status.Conflict, place.getVersion(), null);
+                } else {
+                    results[i] = new PlacePatchResult(placeId, PlacePatchResult.Status.Updated, place.getVersion(), null);
+                    updated.put(placeId, place);
+                }
+            }
+        }
+        // JDBC writes bypass JPA, so cached and indexed copies of these places are refreshed by hand
+        placeChanges.committed(updated.values());
+        return new Outcome(Arrays.asList(results), updated);
+    }
+
+    static Update prepare(PlacePatch patch, Date now) {
+        Map<String, JsonNode> fields = patch.getFields();
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        for (String name : fields.keySet()) {
+            if (!FIELDS_BY_NAME.containsKey(name)) {
+                throw new IllegalArgumentException("Field cannot be patched: " + name);
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE \"Places\" SET ");
+        List<Object> args = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        for (Field field : FIELDS) {
+            if (!fields.containsKey(field.name())) {
+                continue;
+            }
+            JsonNode value = fields.get(field.name());
+            Object arg = null;
+            if (value != null && !value.isNull()) {
+                arg = field.parser().apply(field.name(), value);
+            } else if (!field.nullable()) {
+                throw new IllegalArgumentException(field.name() + " cannot be cleared");
+            }
+            sql.append(field.column()).append(" = ?, ");
+            args.add(arg);
+            types.add(field.sqlType());
+        }
+        sql.append("\"Version\" = \"Version\" + 1, \"LastUpdatedDateTime\" = ?, \"ChangedDateTime\" = ? WHERE \"PlaceId\" = ? AND \"DeletedDateTime\" IS NULL");
+        args.add(now);
+        types.add(Types.TIMESTAMP);
+        args.add(now);
+        types.add(Types.TIMESTAMP);
+        args.add(patch.getPlaceId());
+        types.add(Types.OTHER);
+        if (patch.getVersion() != null) {
+            sql.append(" AND \"Version\" = ?");
+            args.add(patch.getVersion());
+            types.add(Types.BIGINT);
+        }
+        return new Update(sql.toString(), args.toArray(), types.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static PlacePatchResult invalid(UUID placeId, String error) {
+        return new PlacePatchResult(placeId, PlacePatchResult.Status.Invalid, null, error);
+    }
+
+    private static Object text(String field, JsonNode value) {
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException(field + " must be a string");
+        }
+        return value.textValue();
+    }
+
+    private static Object name(String field, JsonNode value) {
+        Object name = text(field, value);
+        if (((String) name).isBlank()) {
+            throw new IllegalArgumentException(field + " cannot be blank");
+        }
+        return name;
+    }
+
+    private static Object type(String field, JsonNode value) {
+        PlaceType type = FeedService.parsePlaceType((String) text(field, value));
+        return type == null ? null : type.name();
+    }
+
+    private static Object bool(String field, JsonNode value) {
+        if (!value.isBoolean()) {
+            throw new IllegalArgumentException(field + " must be true or false");
+        }
+        return value.booleanValue();
+    }
+
+    private static Object number(String field, JsonNode value) {
+        if (!value.isNumber()) {
+            throw new IllegalArgumentException(field + " must be a number");
+        }
+        return value.doubleValue();
+    }
+
+    private record Field(String name, String column, int sqlType, boolean nullable,
+                         BiFunction<String, JsonNode, Object> parser) {
+    }
+
+    record Update(String sql, Object[] args, int[] types) {
+    }
+
+    private record Outcome(List<PlacePatchResult> results, Map<UUID, Place> updated) {
+    }
+}
@@ -0,0 +1,409 @@
+package com.bitebook.Services;
+
+import com.bitebook.Interfaces.PlaceIndex;
+import com.bitebook.Models.Place;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory full-text index over place name, cuisine, location, influence and notes.
+ * Text is folded to lowercase ASCII and split into terms; each term is indexed by its trigrams (padded with
+ * '$' at both ends) so a query term finds prefix, substring and misspelt matches without scanning the
+ * vocabulary. Terms shorter than a trigram fall back to a prefix scan of the sorted vocabulary.
+ * Every query term must match; places are ranked by the sum of each query term's best match, weighted by
+ * the field it matched in. Like FeedIndex, indexed Place instances are shared with callers and read-only.
+ */
+@Service
+public class PlaceSearchIndex implements PlaceIndex {
+
+    private static final int GRAM = 3;
+    private static final Pattern NON_WORD = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final int NAME_WEIGHT = 8;
+    private static final int CUISINE_WEIGHT = 4;
+    private static final int LOCATION_WEIGHT = 3;
+    private static final int INFLUENCE_WEIGHT = 2;
+    private static final int NOTES_WEIGHT = 1;
+
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.8;
+    private static final double SUBSTRING = 0.5;
+    private static final double TYPO = 0.4;
+    private static final double PREFIX_TYPO = 0.3;
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceSearchIndex.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Index index = new Index();
+
+    @Override
+    public Runnable load(List<Place> places) {
+        long start = System.nanoTime();
+        Index rebuilt = new Index();
+        for (Place place : places) {
+            rebuilt.add(place);
+        }
+        logger.info("Search index rebuilt with {} places, {} terms in {} ms",
+                rebuilt.ordinals.size(), rebuilt.postings.size(), (System.nanoTime() - start) / 1_000_000);
+        return () -> write(() -> index = rebuilt);
+    }
+
+    @Override
+    public void upsert(Place place) {
+        write(() -> index.add(place));
+    }
+
+    @Override
+    public void remove(UUID placeId) {
+        write(() -> index.remove(placeId));
+    }
+
+    public List<Place> search(String query, int limit) {
+        List<String> queryTerms = terms(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return index.search(queryTerms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(NON_WORD.split(folded)).filter(term -> !term.isEmpty()).toList();
+    }
+
+    private static List<String> grams(String term) {
+        String padded = "$" + term + "$";
+        List<String> grams = new ArrayList<>(padded.length());
+        for (int i = 0; i + GRAM <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() < 4) return 0;
+        return term.length() < 8 ? 1 : 2;
+    }
+
+    private static long updatedMillis(Place place) {
+        return place.getLastUpdatedDateTime() == null ? Long.MIN_VALUE : place.getLastUpdatedDateTime().getTime();
+    }
+
+    // Best score for how queryTerm matches term, or 0 if it does not
+    private static double similarity(String queryTerm, String term) {
+        if (term.equals(queryTerm)) return EXACT;
+        if (term.startsWith(queryTerm)) return PREFIX;
+        if (queryTerm.length() >= GRAM && term.contains(queryTerm)) return SUBSTRING;
+
+        int maxEdits = maxEdits(queryTerm);
+        if (maxEdits == 0 || term.length() + maxEdits < queryTerm.length()) {
+            return 0;
+        }
+        int[] distances = editDistances(queryTerm, term, maxEdits);
+        int whole = distances[term.length()];
+        if (whole <= maxEdits) {
+            return TYPO / whole;
+        }
+        // Still typing: the query may be a misspelt prefix of the term
+        int prefix = Integer.MAX_VALUE;
+        for (int distance : distances) {
+            prefix = Math.min(prefix, distance);
+        }
+        return prefix <= maxEdits ? PREFIX_TYPO / Math.max(prefix, 1) : 0;
+    }
+
+    /**
+     * Optimal string alignment distance from query to every prefix of term, so the last element is the
+     * distance to the whole term. Values beyond maxEdits are only known to be larger than it.
+     */
+    private static int[] editDistances(String query, String term, int maxEdits) {
+        int columns = term.length() + 1;
+        int[] previous2 = new int[columns];
+        int[] previous = new int[columns];
+        int[] current = new int[columns];
+        for (int j = 0; j < columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j < columns; j++) {
+                int cost = query.charAt(i - 1) == term.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && query.charAt(i - 1) == term.charAt(j - 2) && query.charAt(i - 2) == term.charAt(j - 1)) {
+                    distance = Math.min(distance, previous2[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (rowMin > maxEdits) {
+                Arrays.fill(current, maxEdits + 1);
+                return current;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous;
+    }
+
+    private record Doc(Place place, Map<String, Integer> terms) {
+    }
+
+    /** Places holding one term, by ordinal, with the weight of the heaviest field it appears in. */
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private byte[] weights = new byte[4];
+        private int size;
+
+        void add(int ordinal, int weight) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ordinals[size] = ordinal;
+            weights[size] = (byte) weight;
+            size++;
+        }
+
+        void remove(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] == ordinal) {
+                    size--;
+                    ordinals[i] = ordinals[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Not thread-safe; guarded by the enclosing lock. Places are numbered with dense, reused ordinals so
+     * scoring runs over primitive arrays instead of maps keyed by UUID.
+     */
+    private static final class Index {
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+        private Doc[] docs = new Doc[64];
+        // Ranking tie-break, kept beside docs so comparing candidates never leaves primitive arrays
+        private long[] updated = new long[64];
+        private int highWater;
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<String, Set<String>> termsByGram = new HashMap<>();
+        private final NavigableSet<String> vocabulary = new TreeSet<>();
+
+        void add(Place place) {
+            Map<String, Integer> terms = new HashMap<>();
+            addTerms(terms, place.getName(), NAME_WEIGHT);
+            addTerms(terms, place.getCuisine(), CUISINE_WEIGHT);
+            addTerms(terms, place.getLocation(), LOCATION_WEIGHT);
+            addTerms(terms, place.getInfluence(), INFLUENCE_WEIGHT);
+            addTerms(terms, place.getNotes(), NOTES_WEIGHT);
+
+            Integer existing = ordinals.get(place.getPlaceId());
+            if (existing != null && docs[existing].terms().equals(terms)) {
+                // Only non-text fields changed (enrichment, visited, ...): keep the postings
+                docs[existing] = new Doc(place, docs[existing].terms());
+                updated[existing] = updatedMillis(place);
+                return;
+            }
+            remove(place.getPlaceId());
+
+            int ordinal = allocate();
+            ordinals.put(place.getPlaceId(), ordinal);
+            docs[ordinal] = new Doc(place, terms);
+            updated[ordinal] = updatedMillis(place);
+            terms.forEach((term, weight) -> {
+                Postings places = postings.get(term);
+                if (places == null) {
+                    places = new Postings();
+                    postings.put(term, places);
+                    vocabulary.add(term);
+                    for (String gram : grams(term)) {
+                        termsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                    }
+                }
+                places.add(ordinal, weight);
+            });
+        }
+
+        void remove(UUID placeId) {
+            Integer ordinal = ordinals.remove(placeId);
+            if (ordinal == null) {
+                return;
+            }
+            Doc doc = docs[ordinal];
+            docs[ordinal] = null;
+            freeOrdinals.push(ordinal);
+            for (String term : doc.terms().keySet()) {
+                Postings places = postings.get(term);
+                places.remove(ordinal);
+                if (places.size == 0) {
+                    postings.remove(term);
+                    vocabulary.remove(term);
+                    for (String gram : grams(term)) {
+                        Set<String> terms = termsByGram.get(gram);
+                        terms.remove(term);
+                        if (terms.isEmpty()) {
+                            termsByGram.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Place> search(List<String> queryTerms, int limit) {
+            // The only array sized to the whole index; everything else grows with the matches
+            double[] best = new double[highWater];
+            int[] candidates = null;
+            double[] totals = null;
+            int candidateCount = 0;
+
+            for (String queryTerm : queryTerms) {
+                int[] matched = match(queryTerm, best);
+                if (candidates == null) {
+                    candidates = matched;
+                    candidateCount = matched.length;
+                    totals = new double[candidateCount];
+                    for (int i = 0; i < candidateCount; i++) {
+                        totals[i] = best[matched[i]];
+                    }
+                } else {
+                    // Every query term has to match somewhere in the place
+                    int kept = 0;
+                    for (int i = 0; i < candidateCount; i++) {
+                        int ordinal = candidates[i];
+                        if (best[ordinal] > 0) {
+                            totals[kept] = totals[i] + best[ordinal];
+                            candidates[kept++] = ordinal;
+                        }
+                    }
+                    candidateCount = kept;
+                }
+                for (int ordinal : matched) {
+                    best[ordinal] = 0;
+                }
+                if (candidateCount == 0) {
+                    return List.of();
+                }
+            }
+
+            // Only the best `limit` candidates are kept, in rank order, so nothing is boxed or fully sorted
+            int[] top = new int[Math.min(limit, candidateCount)];
+            int kept = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                if (kept == top.length && compare(i, top[kept - 1], candidates, totals) >= 0) {
+                    continue;
+                }
+                int at = kept < top.length ? kept++ : kept - 1;
+                while (at > 0 && compare(i, top[at - 1], candidates, totals) < 0) {
+                    top[at] = top[at - 1];
+                    at--;
+                }
+                top[at] = i;
+            }
+            Place[] results = new Place[kept];
+            for (int i = 0; i < kept; i++) {
+                results[i] = docs[candidates[top[i]]].place();
+            }
+            return List.of(results);
+        }
+
+        // Negative when candidate a ranks ahead of b: higher score, then more recently updated, then by id
+        private int compare(int a, int b, int[] candidates, double[] totals) {
+            int byScore = Double.compare(totals[b], totals[a]);
+            if (byScore != 0) {
+                return byScore;
+            }
+            int byUpdated = Long.compare(updated[candidates[b]], updated[candidates[a]]);
+            if (byUpdated != 0) {
+                return byUpdated;
+            }
+            return docs[candidates[a]].place().getPlaceId().compareTo(docs[candidates[b]].place().getPlaceId());
+        }
+
+        // Fills best with each place's score for one query term and returns the places that scored
+        private int[] match(String queryTerm, double[] best) {
+            Collection<String> candidates;
+            if (queryTerm.length() < GRAM) {
+                candidates = vocabulary.subSet(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+            } else {
+                Set<String> sharingAGram = new HashSet<>();
+                for (String gram : grams(queryTerm)) {
+                    sharingAGram.addAll(termsByGram.getOrDefault(gram, Set.of()));
+                }
+                candidates = sharingAGram;
+            }
+
+            int[] matched = new int[16];
+            int count = 0;
+            for (String term : candidates) {
+                double similarity = similarity(queryTerm, term);
+                if (similarity == 0) {
+                    continue;
+                }
+                Postings places = postings.get(term);
+                for (int i = 0; i < places.size; i++) {
+                    int ordinal = places.ordinals[i];
+                    double score = similarity * places.weights[i];
+                    if (best[ordinal] == 0) {
+                        if (count == matched.length) {
+                            matched = Arrays.copyOf(matched, count * 2);
+                        }
+                        matched[count++] = ordinal;
+                        best[ordinal] = score;
+                    } else if (score > best[ordinal]) {
+                        best[ordinal] = score;
+                    }
+                }
+            }
+            return Arrays.copyOf(matched, count);
+        }
+
+        private int allocate() {
+            if (!freeOrdinals.isEmpty()) {
+                return freeOrdinals.pop();
+            }
+            if (highWater == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+                updated = Arrays.copyOf(updated, updated.length * 2);
+            }
+            return highWater++;
+        }
+
+        private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+            for (String term : terms(text)) {
+                terms.merge(term, weight, Math::max);
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.AddPlaceRequest;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceImportResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Bulk import and export for people moving their lists in and out. The body is parsed as it arrives (CSV with a header row,
+ * or NDJSON with AddPlaceRequest fields) and valid rows are written with JDBC batch inserts inside one
+ * transaction, so an import lands completely or not at all. Invalid rows are skipped and reported by line.
+ * Google enrichment is deferred: rows are inserted Pending and handed to the enrichment queue afterwards,
+ * with whatever does not fit left for its sweep. Exports use the same CSV columns, so they import back.
+ */
+@Service
+public class PlaceTransferService {
+
+    private static final String INSERT_SQL = "INSERT INTO \"Places\" (\"PlaceId\", \"Name\", \"Cuisine\", \"Type\", \"Location\", "
+            + "\"Influence\", \"Visited\", \"Notes\", \"Rating\", \"Website\", \"SocialMedia\", \"GooglePlaceId\", "
+            + "\"LastUpdatedDateTime\", \"CreatedDateTime\", \"ChangedDateTime\", \"EnrichmentState\", \"Version\") "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    // Typed so null columns are bound without the driver being asked for parameter metadata
+    private static final int[] INSERT_TYPES = {Types.OTHER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BOOLEAN, Types.VARCHAR, Types.DOUBLE, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR};
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    // Header names are matched ignoring case, spaces and underscores
+    private static final Map<String, BiConsumer<AddPlaceRequest, String>> CSV_COLUMNS = Map.ofEntries(
+            Map.entry("name", AddPlaceRequest::setName),
+            Map.entry("cuisine", AddPlaceRequest::setCuisine),
+            Map.entry("type", AddPlaceRequest::setType),
+            Map.entry("location", AddPlaceRequest::setLocation),
+            Map.entry("influence", AddPlaceRequest::setInfluence),
+            Map.entry("visited", AddPlaceRequest::setVisited),
+            Map.entry("notes", AddPlaceRequest::setNotes),
+            Map.entry("website", AddPlaceRequest::setWebsite),
+            Map.entry("socialmedia", AddPlaceRequest::setSocialMedia),
+            Map.entry("googleplaceid", AddPlaceRequest::setGooglePlaceId),
+            Map.entry("rating", (request, value) -> request.setRating(parseRating(value))));
+
+    private static final List<String> EXPORT_COLUMNS = List.of("placeId", "name", "cuisine", "type", "location",
+            "influence", "visited", "notes", "rating", "website", "socialMedia", "googlePlaceId", "fullAddress",
+            "latitude", "longitude", "createdDateTime", "lastUpdatedDateTime");
+
+    public enum Format {
+        Csv,
+        Ndjson
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(PlaceTransferService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlaceChangePublisher placeChanges;
+
+    @Autowired
+    private PlaceEnrichmentQueue placeEnrichmentQueue;
+
+    @Value("${places.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${places.import.max-rows:100000}")
+    private int maxRows;
+
+    public PlaceImportResult ImportPlaces(InputStream body, Format format) {
+        long started = System.nanoTime();
+        Batch batch = new Batch();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                if (format == Format.Csv) {
+                    readCsv(reader, batch);
+                } else {
+                    readNdjson(reader, batch);
+                }
+                batch.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to read import body", ex);
+            }
+        });
+
+        // Only once committed: indexes and the feed version must never show rows that could still roll back
+        placeChanges.committed(batch.imported);
+        int queued = 0;
+        for (Place place : batch.imported) {
+            if (!placeEnrichmentQueue.submit(place.getPlaceId())) {
+                break;
+            }
+            queued++;
+        }
+
+        long durationMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Imported {} places ({} rejected, {} queued for enrichment) in {} ms",
+                batch.imported.size(), batch.rejected, queued, durationMillis);
+        return new PlaceImportResult(batch.imported.size(), batch.rejected, batch.errors, durationMillis);
+    }
+
+    // Columns beyond the import set are informational; /import ignores them
+    public void ExportCsv(Writer writer, Consumer<Consumer<Place>> places) throws IOException {
+        PlaceCsv.writeRecord(writer, EXPORT_COLUMNS);
+        places.accept(place -> {
+            try {
+                PlaceCsv.writeRecord(writer, Arrays.asList(
+                        place.getPlaceId(), place.getName(), place.getCuisine(), place.getType(), place.getLocation(),
+                        place.getInfluence(), place.getVisited(), place.getNotes(), place.getRating(), place.getWebsite(),
+                        place.getSocialMedia(), place.getGooglePlaceId(), place.getFullAddress(), place.getLatitude(),
+                        place.getLongitude(), isoInstant(place.getCreatedDateTime()), isoInstant(place.getLastUpdatedDateTime())));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private static String isoInstant(Date date) {
+        return date == null ? null : date.toInstant().toString();
+    }
+
+    private void readCsv(BufferedReader reader, Batch batch) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            // No byte order mark, as written by Excel; put the first character back
+            reader.reset();
+        }
+        PlaceCsv.RecordReader records = new PlaceCsv.RecordReader(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            return;
+        }
+        List<BiConsumer<AddPlaceRequest, String>> setters = header.stream()
+                .map(name -> CSV_COLUMNS.get(name.replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT)))
+                .toList();
+        if (!setters.contains(CSV_COLUMNS.get("name"))) {
+            throw new IllegalArgumentException("CSV header must include a name column");
+        }
+
+        for (List<String> record = records.next(); record != null; record = records.next()) {
+            AddPlaceRequest request = new AddPlaceRequest();
+            try {
+                for (int i = 0; i < Math.min(record.size(), setters.size()); i++) {
+                    String value = record.get(i).trim();
+                    if (setters.get(i) != null && !value.isEmpty()) {
+                        setters.get(i).accept(request, value);
+                    }
+                }
+            } catch (IllegalArgumentException ex) {
+                batch.reject(records.getLine(), ex.getMessage());
+                continue;
+            }
+            batch.add(records.getLine(), request);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Batch batch) throws IOException {
+        ObjectReader requestReader = objectMapper.readerFor(AddPlaceRequest.class);
+        int lineNumber = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            AddPlaceRequest request;
+            try {
+                request = requestReader.readValue(line);
+            } catch (JsonProcessingException ex) {
+                batch.reject(lineNumber, "Invalid JSON: " + ex.getOriginalMessage());
+                continue;
+            }
+            batch.add(lineNumber, request);
+        }
+    }
+
+    private static Double parseRating(String value) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid rating: " + value, ex);
+        }
+    }
+
+    private final class Batch {
+        private final Date now = new Date();
+        private final List<Place> imported = new ArrayList<>();
+        private final List<Object[]> rows = new ArrayList<>(batchSize);
+        private final List<String> errors = new ArrayList<>();
+        private int rejected;
+
+        void add(int line, AddPlaceRequest request) {
+            if (request.getName() == null || request.getName().isBlank()) {
+                reject(line, "Missing name");
+                return;
+            }
+            if (imported.size() >= maxRows) {
+                throw new IllegalArgumentException("Imports are limited to " + maxRows + " places");
+            }
+            Place place;
+            try {
+                place = FeedService.newPlace(request, now);
+            } catch (IllegalArgumentException ex) {
+                reject(line, ex.getMessage());
+                return;
+            }
+            // Matches the literal in INSERT_SQL, so indexed copies carry the stored version
+            place.setVersion(0L);
+            imported.add(place);
+            rows.add(new Object[] {
+                    place.getPlaceId(),
+                    place.getName(),
+                    place.getCuisine(),
+                    place.getType() == null ? null : place.getType().name(),
+                    place.getLocation(),
+                    place.getInfluence(),
+                    place.getVisited(),
+                    place.getNotes(),
+                    place.getRating(),
+                    place.getWebsite(),
+                    place.getSocialMedia(),
+                    place.getGooglePlaceId(),
+                    place.getLastUpdatedDateTime(),
+                    place.getCreatedDateTime(),
+                    place.getChangedDateTime(),
+                    place.getEnrichmentState().name()
+            });
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(int line, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + line + ": " + reason);
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            // JDBC batches bypass the repository invocation timers, so they get their own
+            meterRegistry.timer("db.batch", "operation", "import")
+                    .record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES));
+            rows.clear();
+        }
+    }
+}
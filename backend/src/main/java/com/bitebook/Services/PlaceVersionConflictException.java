@@ -0,0 +1,12 @@
+package com.bitebook.Services;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The place was edited since the client read it; the client should re-read and reapply its change
+@ResponseStatus(HttpStatus.CONFLICT)
+public class PlaceVersionConflictException extends RuntimeException {
+    public PlaceVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,79 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.SingleFlightStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Concurrent calls for the same key share one in-flight computation instead of each running it
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            deduplicated.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // Exports the counts shown at /admin/single-flight, tagged with this flight's name
+    public SingleFlight<K, V> bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("single.flight.calls", calls, LongAdder::sum)
+                .tag("flight", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("single.flight.deduplicated", deduplicated, LongAdder::sum)
+                .tag("flight", name)
+                .register(meterRegistry);
+        return this;
+    }
+
+    public SingleFlightStats getStats() {
+        return new SingleFlightStats(name, calls.sum(), deduplicated.sum(), inFlight.size());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            // Rethrow the leader's own exception so waiters fail the same way it did
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.bitebook.Services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Blocking token bucket. Uses a ReentrantLock rather than synchronized so waiting virtual threads do not pin their carrier.
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+                lastRefillNanos = now;
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            } finally {
+                lock.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.bitebook.Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmark profile. Arguments: the JSON result file, then an optional include regex.
+ * The GC profiler is always on so every result carries gc.alloc.rate.norm alongside throughput.
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length == 0) {
+			throw new IllegalArgumentException("Usage: BenchmarkRunner <result.json> [include-regex]");
+		}
+
+		Options options = new OptionsBuilder()
+				.include(args.length > 1 ? args[1] : BenchmarkRunner.class.getPackageName() + ".*")
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(args[0])
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,96 @@
+package com.bitebook.Benchmarks;
+
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.FeedItem;
+import com.bitebook.Models.FeedPage;
+import com.bitebook.Models.Place;
+import com.bitebook.Repositories.PlaceRepository;
+import com.bitebook.Services.FeedIndex;
+import com.bitebook.Services.FeedService;
+import com.bitebook.Services.FeedVersion;
+import com.bitebook.Services.PlaceIndexes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * FeedService.GetFeed filtering through the in-memory feed index, which is what serves every feed request
+ * once feed.index.enabled is set. The database path is left to the query plans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedBenchmarks {
+
+	@Param({"1000", "10000", "100000"})
+	private int places;
+
+	// Friday 22:30, after most synthetic places have closed, so pages have to scan past closed rows
+	private static final String OPEN_AT = "2026-10-16T22:30";
+
+	private FeedService feedService;
+	private String middleCursor;
+	private Integer openMinute;
+
+	@Setup
+	public void setUp() {
+		List<Place> dataset = SyntheticPlaces.places(places);
+		PlaceRepository repository = mock(PlaceRepository.class);
+		when(repository.findAll()).thenReturn(dataset);
+		FeedIndex feedIndex = new FeedIndex();
+		new PlaceIndexes(repository, List.of(feedIndex)).rebuild();
+
+		feedService = new FeedService();
+		ReflectionTestUtils.setField(feedService, "feedIndex", feedIndex);
+		ReflectionTestUtils.setField(feedService, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(feedService, "feedVersion", new FeedVersion());
+		// No feedOpenAt cache, so every openAt call measures the filter rather than a cache hit
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.setCacheNames(List.of("places"));
+		ReflectionTestUtils.setField(feedService, "cacheManager", cacheManager);
+
+		List<FeedItem> all = feedService.GetFeed("ALL", null, null, null, null, null).getPlaces();
+		middleCursor = FeedCursor.from(all.get(all.size() / 2)).encode();
+		openMinute = feedService.ResolveOpenAt(OPEN_AT);
+	}
+
+	@Benchmark
+	public FeedPage wholeFeed() {
+		return feedService.GetFeed("ALL", null, null, null, null, null);
+	}
+
+	@Benchmark
+	public FeedPage wholeFeedByTypeAndVisited() {
+		return feedService.GetFeed("Restaurant", true, null, null, null, null);
+	}
+
+	@Benchmark
+	public FeedPage firstPage() {
+		return feedService.GetFeed("ALL", null, "Newest", null, 50, null);
+	}
+
+	@Benchmark
+	public FeedPage pageFromMiddleCursor() {
+		return feedService.GetFeed("Cafe", false, "Newest", middleCursor, 50, null);
+	}
+
+	@Benchmark
+	public FeedPage wholeFeedOpenAt() {
+		return feedService.GetFeed("ALL", null, null, null, null, openMinute);
+	}
+
+	@Benchmark
+	public FeedPage firstPageOpenAt() {
+		return feedService.GetFeed("ALL", null, "Newest", null, 50, openMinute);
+	}
+}
@@ -0,0 +1,49 @@
+package com.bitebook.Benchmarks;
+
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceDetailsResponse;
+import com.bitebook.Services.PlaceEnricher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a Place Details payload, which runs OpeningHourDeserializer, and converting the parsed hours
+ * into the map stored on Place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpeningHoursBenchmarks {
+
+	private final PlaceEnricher placeEnricher = new PlaceEnricher();
+
+	private ObjectReader detailsReader;
+	private byte[] detailsJson;
+	private PlaceDetailsResponse.OpeningHour openingHours;
+
+	@Setup
+	public void setUp() throws Exception {
+		detailsReader = new ObjectMapper().readerFor(PlaceDetailsResponse.class);
+		detailsJson = SyntheticPlaces.placeDetailsJson().getBytes(StandardCharsets.UTF_8);
+		openingHours = detailsReader.<PlaceDetailsResponse>readValue(detailsJson).getOpeningHours();
+	}
+
+	@Benchmark
+	public PlaceDetailsResponse parsePlaceDetails() throws Exception {
+		return detailsReader.readValue(detailsJson);
+	}
+
+	@Benchmark
+	public Map<String, List<Place.OpeningHoursPeriod>> convertToOpeningHoursMap() {
+		return placeEnricher.convertToOpeningHoursMap(openingHours);
+	}
+}
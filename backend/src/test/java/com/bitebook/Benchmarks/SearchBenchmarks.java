@@ -0,0 +1,53 @@
+package com.bitebook.Benchmarks;
+
+import com.bitebook.Models.Place;
+import com.bitebook.Repositories.PlaceRepository;
+import com.bitebook.Services.PlaceIndexes;
+import com.bitebook.Services.PlaceSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Search-as-you-type queries against PlaceSearchIndex: a short prefix, a misspelt word, and two terms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmarks {
+
+	@Param({"10000", "100000"})
+	private int places;
+
+	private PlaceSearchIndex searchIndex;
+
+	@Setup
+	public void setUp() {
+		PlaceRepository repository = mock(PlaceRepository.class);
+		when(repository.findAll()).thenReturn(SyntheticPlaces.places(places));
+		searchIndex = new PlaceSearchIndex();
+		new PlaceIndexes(repository, List.of(searchIndex)).rebuild();
+	}
+
+	@Benchmark
+	public List<Place> prefix() {
+		return searchIndex.search("ital", 20);
+	}
+
+	@Benchmark
+	public List<Place> typo() {
+		return searchIndex.search("japanse", 20);
+	}
+
+	@Benchmark
+	public List<Place> twoTerms() {
+		return searchIndex.search("thai newt", 20);
+	}
+}
@@ -0,0 +1,66 @@
+package com.bitebook.Benchmarks;
+
+import com.bitebook.Models.FeedItem;
+import com.bitebook.Models.Place;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a feed response body. The mappers are built the way Spring MVC builds its own, so the result
+ * tracks what /feed actually pays per request: the full place list it used to send, against the lean
+ * items it sends now in each encoding a client can ask for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmarks {
+
+	@Param({"50", "1000", "10000"})
+	private int places;
+
+	private ObjectWriter feedWriter;
+	private ObjectWriter jsonItemWriter;
+	private ObjectWriter cborItemWriter;
+	private ObjectWriter smileItemWriter;
+	private List<Place> feed;
+	private List<FeedItem> items;
+
+	@Setup
+	public void setUp() {
+		feedWriter = Jackson2ObjectMapperBuilder.json().build().writerFor(new TypeReference<List<Place>>() {});
+		TypeReference<List<FeedItem>> itemList = new TypeReference<>() {};
+		jsonItemWriter = Jackson2ObjectMapperBuilder.json().build().writerFor(itemList);
+		cborItemWriter = Jackson2ObjectMapperBuilder.cbor().build().writerFor(itemList);
+		smileItemWriter = Jackson2ObjectMapperBuilder.smile().build().writerFor(itemList);
+		feed = SyntheticPlaces.places(places);
+		items = feed.stream().map(FeedItem::from).toList();
+	}
+
+	@Benchmark
+	public byte[] writePlaceList() throws Exception {
+		return feedWriter.writeValueAsBytes(feed);
+	}
+
+	@Benchmark
+	public byte[] writeFeedItemsJson() throws Exception {
+		return jsonItemWriter.writeValueAsBytes(items);
+	}
+
+	@Benchmark
+	public byte[] writeFeedItemsCbor() throws Exception {
+		return cborItemWriter.writeValueAsBytes(items);
+	}
+
+	@Benchmark
+	public byte[] writeFeedItemsSmile() throws Exception {
+		return smileItemWriter.writeValueAsBytes(items);
+	}
+}
@@ -0,0 +1,86 @@
+package com.bitebook.Benchmarks;
+
+import com.bitebook.BitebookApplication;
+import com.bitebook.Config.SecretSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from SpringApplication.run to a started context, against H2 and the file secret provider so it runs
+ * without AWS or Neon. Every fork is one cold start. "provider" fetches the secrets during startup and
+ * seals a snapshot; "snapshot" boots from an existing snapshot and refreshes after startup, which is the
+ * path that takes the SSM round trip off a production start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmarks {
+
+	private static final Map<String, String> SECRETS = Map.of(
+			"GoogleMapsApiKey", "benchmark",
+			"NeonDbPassword", "",
+			"LocalHostURL", "http://localhost:3000",
+			"BitebookProd", "http://localhost:8080");
+
+	@Param({"provider", "snapshot"})
+	private String secrets;
+
+	private String[] args;
+	private ConfigurableApplicationContext context;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		Path directory = Files.createTempDirectory("bitebook-startup");
+		Path secretsFile = directory.resolve("secrets.properties");
+		StringBuilder contents = new StringBuilder();
+		SECRETS.forEach((name, value) -> contents.append(name).append('=').append(value).append('\n'));
+		Files.writeString(secretsFile, contents);
+
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		Path snapshotFile = directory.resolve("parameters.snapshot");
+		if (secrets.equals("snapshot")) {
+			new SecretSnapshot(snapshotFile, key).write(SECRETS);
+		}
+
+		args = new String[] {
+				"--server.port=0",
+				"--logging.level.root=WARN",
+				"--spring.jpa.show-sql=false",
+				"--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--cache.invalidation.transport=none",
+				"--bitebook.secrets.provider=file",
+				"--bitebook.secrets.file=" + secretsFile,
+				"--bitebook.secrets.snapshot.key=" + Base64.getEncoder().encodeToString(key),
+				"--bitebook.secrets.snapshot.path=" + snapshotFile
+		};
+	}
+
+	@Benchmark
+	public ConfigurableApplicationContext start() {
+		context = SpringApplication.run(BitebookApplication.class, args);
+		return context;
+	}
+
+	@TearDown(Level.Iteration)
+	public void stop() {
+		if (context != null) {
+			context.close();
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.bitebook.Benchmarks;
+
+import com.bitebook.Models.EnrichmentState;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+
+import java.util.*;
+
+/**
+ * Deterministic data for the benchmarks. The same seed always yields the same places and payloads,
+ * so results from different commits are measured against identical input.
+ */
+final class SyntheticPlaces {
+
+	static final long SEED = 20240917L;
+
+	private static final String[] DAYS = {"Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday"};
+	private static final String[] CUISINES = {"Italian", "Japanese", "Mexican", "Thai", "French", "Indian", "Korean", "Lebanese"};
+	private static final String[] SUBURBS = {"Newtown", "Surry Hills", "Redfern", "Glebe", "Paddington", "Chippendale"};
+	private static final long START_MILLIS = 1_700_000_000_000L;
+
+	private SyntheticPlaces() {
+	}
+
+	static List<Place> places(int count) {
+		Random random = new Random(SEED);
+		List<Place> places = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			places.add(place(random, i));
+		}
+		return places;
+	}
+
+	private static Place place(Random random, int i) {
+		Place place = new Place();
+		place.setPlaceId(new UUID(random.nextLong(), random.nextLong()));
+		place.setName("Place " + i);
+		place.setCuisine(CUISINES[random.nextInt(CUISINES.length)]);
+		place.setType(PlaceType.values()[random.nextInt(PlaceType.values().length)]);
+		place.setLocation(SUBURBS[random.nextInt(SUBURBS.length)]);
+		place.setInfluence("@foodie" + random.nextInt(500));
+		// Roughly a tenth of places predate the Visited column
+		place.setVisited(random.nextInt(10) == 0 ? null : random.nextBoolean());
+		place.setNotes(random.nextInt(3) == 0 ? "Try the specials, book ahead on weekends" : null);
+		place.setRating(Math.round(random.nextDouble() * 50) / 10.0);
+		place.setWebsite("https://example.com/places/" + i);
+		place.setSocialMedia("https://instagram.com/place" + i);
+		place.setGooglePlaceId("ChIJ" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36));
+		Date created = new Date(START_MILLIS + i * 60_000L);
+		place.setCreatedDateTime(created);
+		place.setLastUpdatedDateTime(new Date(created.getTime() + random.nextInt(86_400_000)));
+		place.setFullAddress(i + " King St, " + place.getLocation() + " NSW 2000, Australia");
+		place.setIsPermanentlyClosed(random.nextInt(50) == 0);
+		place.setOpeningHours(openingHours(random));
+		place.setOpeningHoursUpdatedDateTime(place.getLastUpdatedDateTime());
+		place.setEnrichmentState(EnrichmentState.Enriched);
+		return place;
+	}
+
+	private static Map<String, List<Place.OpeningHoursPeriod>> openingHours(Random random) {
+		Map<String, List<Place.OpeningHoursPeriod>> hours = new HashMap<>();
+		for (String day : DAYS) {
+			if (random.nextInt(7) == 0) {
+				continue;
+			}
+			List<Place.OpeningHoursPeriod> periods = new ArrayList<>();
+			if (random.nextBoolean()) {
+				periods.add(period(11, 30, 15, 0));
+				periods.add(period(17, 30, 22, 0));
+			} else {
+				periods.add(period(7 + random.nextInt(4), 0, 16 + random.nextInt(8), 30));
+			}
+			hours.put(day, periods);
+		}
+		return hours;
+	}
+
+	private static Place.OpeningHoursPeriod period(int openHour, int openMinute, int closeHour, int closeMinute) {
+		Place.OpeningHoursPeriod period = new Place.OpeningHoursPeriod();
+		period.setOpeningHour(openHour);
+		period.setOpeningMinute(openMinute);
+		period.setClosingHour(closeHour);
+		period.setClosingMinute(closeMinute);
+		return period;
+	}
+
+	/**
+	 * A Place Details (New) response shaped like Google's: split lunch and dinner sittings, a late close
+	 * that runs past midnight, and the fields the field mask would normally strip, which the parser must skip.
+	 */
+	static String placeDetailsJson() {
+		StringBuilder periods = new StringBuilder();
+		for (int day = 0; day < 7; day++) {
+			if (day == 1) {
+				continue;
+			}
+			if (day >= 5) {
+				appendPeriod(periods, day, 12, 0, (day + 1) % 7, 1, 30);
+			} else {
+				appendPeriod(periods, day, 11, 30, day, 15, 0);
+				appendPeriod(periods, day, 17, 30, day, 22, 0);
+			}
+		}
+		periods.setLength(periods.length() - 1);
+
+		return """
+				{
+				  "id": "ChIJ3S-JXmauEmsRUcIaWtf4MzE",
+				  "displayName": {"text": "Sydney Opera House Bistro", "languageCode": "en"},
+				  "formattedAddress": "Bennelong Point, Sydney NSW 2000, Australia",
+				  "businessStatus": "OPERATIONAL",
+				  "regularOpeningHours": {
+				    "openNow": true,
+				    "periods": [%s],
+				    "weekdayDescriptions": [
+				      "Monday: Closed",
+				      "Tuesday: 11:30 AM – 3:00 PM, 5:30 – 10:00 PM",
+				      "Wednesday: 11:30 AM – 3:00 PM, 5:30 – 10:00 PM",
+				      "Thursday: 11:30 AM – 3:00 PM, 5:30 – 10:00 PM",
+				      "Friday: 12:00 PM – 1:30 AM",
+				      "Saturday: 12:00 PM – 1:30 AM",
+				      "Sunday: 11:30 AM – 3:00 PM, 5:30 – 10:00 PM"
+				    ],
+				    "nextCloseTime": "2026-10-12T04:00:00Z"
+				  },
+				  "websiteUri": "https://www.sydneyoperahouse.com/",
+				  "rating": 4.6,
+				  "userRatingCount": 18734
+				}
+				""".formatted(periods);
+	}
+
+	private static void appendPeriod(StringBuilder periods, int openDay, int openHour, int openMinute,
+									 int closeDay, int closeHour, int closeMinute) {
+		periods.append("""
+				{"open": {"day": %d, "hour": %d, "minute": %d}, "close": {"day": %d, "hour": %d, "minute": %d}},"""
+				.formatted(openDay, openHour, openMinute, closeDay, closeHour, closeMinute));
+	}
+}
@@ -0,0 +1,139 @@
+package com.bitebook.Benchmarks;
+
+import com.bitebook.BitebookApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for spring.threads.virtual.enabled: 400 concurrent clients calling GET /feed?limit=20, each
+ * request doing one query with a fixed delay standing in for the round trip to Neon. Tomcat's 200 platform
+ * threads cap the platform run; the Hikari pool is sized past the client count so it does not cap either.
+ * Throughput gives requests per second, SampleTime the p99 (the p0.99 row).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(1)
+public class ThreadingLoadBenchmarks {
+
+	private static final long QUERY_LATENCY_MILLIS = 20;
+	private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeBatch");
+
+	@Param({"platform", "virtual"})
+	private String threads;
+
+	private ConfigurableApplicationContext context;
+	private HttpClient client;
+	private HttpRequest request;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		Path secretsFile = Files.createTempFile("bitebook-load", ".properties");
+		Files.writeString(secretsFile, "GoogleMapsApiKey=benchmark\nNeonDbPassword=\n"
+				+ "LocalHostURL=http://localhost:3000\nBitebookProd=http://localhost:8080\n");
+
+		SpringApplication application = new SpringApplication(BitebookApplication.class);
+		application.addInitializers(applicationContext -> applicationContext.getBeanFactory()
+				.addBeanPostProcessor(new QueryLatencyPostProcessor()));
+		context = application.run(
+				"--server.port=0",
+				"--logging.level.root=WARN",
+				"--spring.jpa.show-sql=false",
+				"--spring.threads.virtual.enabled=" + threads.equals("virtual"),
+				"--spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.hikari.maximum-pool-size=500",
+				"--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--cache.invalidation.transport=none",
+				"--bitebook.secrets.provider=file",
+				"--bitebook.secrets.file=" + secretsFile);
+
+		String port = context.getEnvironment().getProperty("local.server.port");
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/places/feed?limit=20")).GET().build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int feedPage() throws Exception {
+		HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("GET /places/feed returned " + response.statusCode());
+		}
+		return response.body().length;
+	}
+
+	// Wraps the DataSource so every prepared statement execution waits as long as a remote query would
+	private static final class QueryLatencyPostProcessor implements BeanPostProcessor {
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (!(bean instanceof DataSource dataSource)) {
+				return bean;
+			}
+			return proxy(DataSource.class, dataSource, (target, method, args) -> {
+				Object result = invoke(target, method, args);
+				return result instanceof Connection connection
+						? proxy(Connection.class, connection, (c, m, a) -> {
+							Object statement = invoke(c, m, a);
+							return statement instanceof PreparedStatement prepared
+									? proxy(PreparedStatement.class, prepared, (s, sm, sa) -> {
+										if (EXECUTE_METHODS.contains(sm.getName())) {
+											Thread.sleep(QUERY_LATENCY_MILLIS);
+										}
+										return invoke(s, sm, sa);
+									})
+									: statement;
+						})
+						: result;
+			});
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> T proxy(Class<T> type, T target, TargetHandler<T> handler) {
+			InvocationHandler invocationHandler = (proxy, method, args) -> handler.invoke(target, method, args);
+			return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+		}
+	}
+
+	@FunctionalInterface
+	private interface TargetHandler<T> {
+		Object invoke(T target, Method method, Object[] args) throws Throwable;
+	}
+}
@@ -12,8 +12,12 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 		"spring.datasource.password=",
 		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
 		"spring.jpa.hibernate.ddl-auto=create-drop",
-		"spring.cloud.aws.parameterstore.enabled=false",
-		"spring.cloud.aws.region.static=ap-southeast-2"
+		"bitebook.secrets.provider=none",
+		// With no provider the secrets the properties refer to are supplied here, so startup needs no AWS
+		"GoogleMapsApiKey=test",
+		"LocalHostURL=http://localhost:3000",
+		"BitebookProd=http://localhost:8080",
+		"cache.invalidation.transport=loopback"
 })
 class BitebookApplicationTests {
 
@@ -0,0 +1,118 @@
+package com.bitebook.Config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParameterStoreEnvironmentPostProcessorTests {
+
+	private final ParameterStoreEnvironmentPostProcessor postProcessor =
+			new ParameterStoreEnvironmentPostProcessor((DeferredLogFactory) Supplier::get);
+
+	@TempDir
+	private Path directory;
+
+	private Path secretsFile;
+	private Path snapshotFile;
+	private String key;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		secretsFile = directory.resolve("secrets.properties");
+		snapshotFile = directory.resolve("parameters.snapshot");
+		Files.writeString(secretsFile, "GoogleMapsApiKey=file-key\nNeonDbPassword=file-password\n");
+		byte[] bytes = new byte[32];
+		new SecureRandom().nextBytes(bytes);
+		key = Base64.getEncoder().encodeToString(bytes);
+	}
+
+	@Test
+	void loadsNamedParametersFromTheProviderAndSealsASnapshot() throws Exception {
+		MockEnvironment environment = load(environment());
+
+		assertThat(environment.getProperty("GoogleMapsApiKey")).isEqualTo("file-key");
+		assertThat(environment.getProperty("NeonDbPassword")).isEqualTo("file-password");
+		assertThat(source(environment).isFromSnapshot()).isFalse();
+		assertThat(Files.readString(snapshotFile, StandardCharsets.ISO_8859_1)).doesNotContain("file-key");
+	}
+
+	@Test
+	void bootsFromAFreshSnapshotWithoutCallingTheProvider() throws Exception {
+		load(environment());
+		Files.delete(secretsFile);
+
+		MockEnvironment environment = load(environment());
+
+		assertThat(environment.getProperty("NeonDbPassword")).isEqualTo("file-password");
+		assertThat(source(environment).isFromSnapshot()).isTrue();
+	}
+
+	@Test
+	void fallsBackToAStaleSnapshotOnlyWhenTheProviderFails() throws Exception {
+		load(environment());
+		Files.writeString(secretsFile, "GoogleMapsApiKey=rotated-key\nNeonDbPassword=file-password\n");
+
+		MockEnvironment refreshed = load(environment().withProperty("bitebook.secrets.snapshot.max-age", "0s"));
+		assertThat(refreshed.getProperty("GoogleMapsApiKey")).isEqualTo("rotated-key");
+
+		Files.delete(secretsFile);
+		MockEnvironment offline = load(environment().withProperty("bitebook.secrets.snapshot.max-age", "0s"));
+		assertThat(offline.getProperty("GoogleMapsApiKey")).isEqualTo("rotated-key");
+		assertThat(source(offline).isFromSnapshot()).isTrue();
+	}
+
+	@Test
+	void rejectsASnapshotSealedWithAnotherKey() throws Exception {
+		load(environment());
+		Files.delete(secretsFile);
+		byte[] otherKey = new byte[32];
+		new SecureRandom().nextBytes(otherKey);
+
+		assertThatThrownBy(() -> new SecretSnapshot(snapshotFile, otherKey).read())
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> load(environment().withProperty("bitebook.secrets.snapshot.key",
+				Base64.getEncoder().encodeToString(otherKey))))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void leavesNamesAlreadyInTheEnvironmentAlone() {
+		MockEnvironment environment = load(environment().withProperty("NeonDbPassword", "from-env"));
+
+		assertThat(environment.getProperty("NeonDbPassword")).isEqualTo("from-env");
+		assertThat(source(environment).getNames()).containsExactly("GoogleMapsApiKey");
+		assertThat(source(environment).getSource()).isEqualTo(Map.of("GoogleMapsApiKey", "file-key"));
+	}
+
+	private MockEnvironment environment() {
+		return new MockEnvironment()
+				.withProperty("bitebook.secrets.provider", "file")
+				.withProperty("bitebook.secrets.file", secretsFile.toString())
+				.withProperty("bitebook.secrets.names", "GoogleMapsApiKey, NeonDbPassword")
+				.withProperty("bitebook.secrets.snapshot.key", key)
+				.withProperty("bitebook.secrets.snapshot.path", snapshotFile.toString());
+	}
+
+	private MockEnvironment load(MockEnvironment environment) {
+		postProcessor.postProcessEnvironment(environment, new SpringApplication());
+		return environment;
+	}
+
+	private static ParameterStorePropertySource source(MockEnvironment environment) {
+		return (ParameterStorePropertySource) environment.getPropertySources().get(ParameterStorePropertySource.NAME);
+	}
+}
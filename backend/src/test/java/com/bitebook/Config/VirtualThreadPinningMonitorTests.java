@@ -0,0 +1,56 @@
+package com.bitebook.Config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTests {
+
+	private final Object monitor = new Object();
+
+	@Test
+	void timesBlockingInsideSynchronizedByCallingFrame() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(10));
+		pinningMonitor.start();
+		try {
+			Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+			Thread.ofVirtual().start(VirtualThreadPinningMonitorTests::sleepUnpinned).join();
+
+			// JFR streams flush about once a second
+			Timer pinned = null;
+			for (int attempt = 0; attempt < 100 && pinned == null; attempt++) {
+				Thread.sleep(100);
+				pinned = registry.find("jvm.threads.virtual.pinned").timer();
+			}
+			assertThat(pinned).isNotNull();
+			assertThat(pinned.getId().getTag("frame"))
+					.isEqualTo(VirtualThreadPinningMonitorTests.class.getName() + ".sleepWhileHoldingMonitor");
+			assertThat(registry.find("jvm.threads.virtual.pinned").timers()).hasSize(1);
+		} finally {
+			pinningMonitor.stop();
+		}
+	}
+
+	private void sleepWhileHoldingMonitor() {
+		synchronized (monitor) {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static void sleepUnpinned() {
+		try {
+			Thread.sleep(50);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.bitebook.Models;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceDetailsResponseTests {
+
+	private static final String DETAILS = """
+			{
+			  "id": "ChIJ3S-JXmauEmsRUcIaWtf4MzE",
+			  "formattedAddress": "Bennelong Point, Sydney NSW 2000, Australia",
+			  "businessStatus": "OPERATIONAL",
+			  "location": {"latitude": -33.8567844, "longitude": 151.2152967},
+			  "regularOpeningHours": {
+			    "openNow": true,
+			    "periods": [
+			      {"open": {"day": 1, "hour": 9, "minute": 0, "date": {"year": 2026, "month": 10, "day": 12}},
+			       "close": {"day": 1, "hour": 17, "minute": 30, "truncated": true}},
+			      {"open": {"day": 5, "hour": 18, "minute": 0}, "close": {"day": 6, "hour": 2, "minute": 0}},
+			      {"open": {"day": 0, "hour": 0, "minute": 0}}
+			    ],
+			    "weekdayDescriptions": ["Monday: 9:00 AM – 5:30 PM"],
+			    "nextCloseTime": "2026-10-12T06:30:00Z"
+			  },
+			  "websiteUri": "https://www.sydneyoperahouse.com/"
+			}
+			""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void readsPeriodsAndSkipsUnmappedFields() throws Exception {
+		PlaceDetailsResponse response = objectMapper.readValue(DETAILS, PlaceDetailsResponse.class);
+
+		PlaceDetailsResponse.OpeningHour hours = response.getOpeningHours();
+		assertThat(hours.isOpenNow()).isTrue();
+		assertThat(hours.getOpeningHours()).containsOnlyKeys("Monday", "Friday", "Sunday");
+
+		PlaceDetailsResponse.Period friday = hours.getOpeningHours().get("Friday").getFirst();
+		assertThat(List.of(friday.getOpeningHour(), friday.getOpeningMinute(), friday.getClosingHour(), friday.getClosingMinute()))
+				.containsExactly(18, 0, 2, 0);
+		assertThat(hours.getOpeningHours().get("Monday").getFirst().getClosingMinute()).isEqualTo(30);
+		assertThat(response.getWebsite()).isEqualTo("https://www.sydneyoperahouse.com/");
+		assertThat(response.getLocation().getLat()).isEqualTo(-33.8567844);
+		assertThat(response.getLocation().getLng()).isEqualTo(151.2152967);
+	}
+
+	@Test
+	void roundTripsThroughItsOwnSerializedForm() throws Exception {
+		PlaceDetailsResponse response = objectMapper.readValue(DETAILS, PlaceDetailsResponse.class);
+
+		PlaceDetailsResponse copy = objectMapper.readValue(objectMapper.writeValueAsString(response), PlaceDetailsResponse.class);
+
+		assertThat(copy.getOpeningHours().getOpeningHours())
+				.usingRecursiveComparison()
+				.isEqualTo(response.getOpeningHours().getOpeningHours());
+		assertThat(copy.getFormattedAddress()).isEqualTo(response.getFormattedAddress());
+		assertThat(copy.getLocation().getLat()).isEqualTo(response.getLocation().getLat());
+	}
+}
@@ -0,0 +1,71 @@
+package com.bitebook.Models;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyHoursTests {
+
+	// 2026-10-16 is a Friday
+	private static final LocalDateTime FRIDAY = LocalDateTime.of(2026, 10, 16, 0, 0);
+
+	@Test
+	void treatsAPeriodClosingAfterMidnightAsRunningIntoTheNextDay() {
+		WeeklyHours hours = WeeklyHours.compile(Map.of("Friday", List.of(period(18, 0, 2, 0))));
+
+		assertThat(hours.isOpenAt(minute(FRIDAY.withHour(17).withMinute(59)))).isFalse();
+		assertThat(hours.isOpenAt(minute(FRIDAY.withHour(18)))).isTrue();
+		assertThat(hours.isOpenAt(minute(FRIDAY.plusDays(1).withHour(1).withMinute(59)))).isTrue();
+		assertThat(hours.isOpenAt(minute(FRIDAY.plusDays(1).withHour(2)))).isFalse();
+	}
+
+	@Test
+	void wrapsSaturdayNightIntoSundayMorning() {
+		WeeklyHours hours = WeeklyHours.compile(Map.of("Saturday", List.of(period(20, 0, 3, 0))));
+
+		assertThat(hours.isOpenAt(minute(FRIDAY.plusDays(1).withHour(23)))).isTrue();
+		assertThat(hours.isOpenAt(minute(FRIDAY.plusDays(2).withHour(2).withMinute(30)))).isTrue();
+		assertThat(hours.isOpenAt(minute(FRIDAY.plusDays(2).withHour(3)))).isFalse();
+	}
+
+	@Test
+	void readsASingleSundayMidnightPeriodAsAlwaysOpen() {
+		WeeklyHours hours = WeeklyHours.compile(Map.of("Sunday", List.of(period(0, 0, 0, 0))));
+
+		for (int day = 0; day < 7; day++) {
+			assertThat(hours.isOpenAt(minute(FRIDAY.plusDays(day).withHour(13)))).isTrue();
+		}
+	}
+
+	@Test
+	void mergesTouchingPeriodsAndStaysClosedBetweenSittings() {
+		Map<String, List<Place.OpeningHoursPeriod>> openingHours = new HashMap<>();
+		openingHours.put("Friday", List.of(period(11, 30, 15, 0), period(15, 0, 16, 0), period(17, 30, 22, 0)));
+		openingHours.put("Thursday", List.of(period(9, 0, 0, 0)));
+		WeeklyHours hours = WeeklyHours.compile(openingHours);
+
+		// Thursday's midnight close meets nothing; Friday 15:00 joins the two afternoon periods
+		assertThat(hours.isOpenAt(minute(FRIDAY.withHour(0)))).isFalse();
+		assertThat(hours.isOpenAt(minute(FRIDAY.minusDays(1).withHour(23).withMinute(59)))).isTrue();
+		assertThat(hours.isOpenAt(minute(FRIDAY.withHour(15)))).isTrue();
+		assertThat(hours.isOpenAt(minute(FRIDAY.withHour(16).withMinute(30)))).isFalse();
+		assertThat(hours.isOpenAt(minute(FRIDAY.withHour(21).withMinute(59)))).isTrue();
+		assertThat(WeeklyHours.compile(Map.of()).isOpenAt(minute(FRIDAY.withHour(12)))).isFalse();
+	}
+
+	private static int minute(LocalDateTime time) {
+		return WeeklyHours.minuteOfWeek(time);
+	}
+
+	private static Place.OpeningHoursPeriod period(int openHour, int openMinute, int closeHour, int closeMinute) {
+		Place.OpeningHoursPeriod period = new Place.OpeningHoursPeriod();
+		period.setOpeningHour(openHour);
+		period.setOpeningMinute(openMinute);
+		period.setClosingHour(closeHour);
+		period.setClosingMinute(closeMinute);
+		return period;
+	}
+}
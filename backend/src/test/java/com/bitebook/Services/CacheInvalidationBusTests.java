@@ -0,0 +1,114 @@
+package com.bitebook.Services;
+
+import com.bitebook.Config.BroadcastingCaffeineCache;
+import com.bitebook.Proxies.LoopbackCacheInvalidationTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheInvalidationBusTests {
+
+	private final List<Integer> messageSizes = new CopyOnWriteArrayList<>();
+	private final LoopbackCacheInvalidationTransport transport = new LoopbackCacheInvalidationTransport() {
+		@Override
+		public void send(String message) {
+			messageSizes.add(message.getBytes(StandardCharsets.UTF_8).length);
+			super.send(message);
+		}
+	};
+	private final List<Node> nodes = new ArrayList<>();
+
+	@AfterEach
+	void stopNodes() {
+		nodes.forEach(node -> node.bus().stop());
+	}
+
+	@Test
+	void sendsWritesToTheOtherNodesButNotBackToTheWriter() {
+		Node writer = node(1000);
+		Node reader = node(1000);
+		for (Node node : List.of(writer, reader)) {
+			node.cache().putIfAbsent("a", "old a");
+			node.cache().putIfAbsent("b", "old b");
+		}
+
+		writer.cache().evict("a");
+		writer.cache().put("b", "new b");
+		writer.cache().putIfAbsent("c", "c");
+		reader.cache().putIfAbsent("c", "c");
+		writer.bus().flush();
+
+		assertThat(reader.cache().get("a")).isNull();
+		assertThat(reader.cache().get("b")).isNull();
+		assertThat(reader.cache().get("c")).isNotNull();
+		assertThat(reader.invalidations()).containsExactly(new Invalidation(Set.of("a", "b"), false));
+		assertThat(writer.cache().get("b").get()).isEqualTo("new b");
+		assertThat(writer.invalidations()).isEmpty();
+	}
+
+	@Test
+	void clearsTheCacheOnceABurstPassesMaxKeys() {
+		Node writer = node(10);
+		Node reader = node(10);
+		reader.cache().putIfAbsent("untouched", "value");
+
+		for (int i = 0; i < 50; i++) {
+			writer.cache().evict("key " + i);
+		}
+		writer.bus().flush();
+
+		assertThat(messageSizes).hasSize(1);
+		assertThat(reader.cache().get("untouched")).isNull();
+		assertThat(reader.invalidations()).containsExactly(new Invalidation(Set.of(), true));
+	}
+
+	@Test
+	void splitsLargeBatchesIntoMessagesTheTransportCanCarry() {
+		Node writer = node(5000);
+		Node reader = node(5000);
+		Set<String> keys = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			String key = UUID.randomUUID().toString();
+			keys.add(key);
+			writer.cache().evict(key);
+		}
+		writer.bus().flush();
+
+		assertThat(messageSizes).hasSizeGreaterThan(1).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(transport.maxMessageBytes()));
+		Set<String> received = new HashSet<>();
+		reader.invalidations().forEach(invalidation -> {
+			assertThat(invalidation.cleared()).isFalse();
+			received.addAll(invalidation.keys());
+		});
+		assertThat(received).isEqualTo(keys);
+	}
+
+	private Node node(int maxKeys) {
+		// The flusher would wait an hour; tests flush by hand
+		CacheInvalidationBus bus = new CacheInvalidationBus(new ObjectMapper(), new SimpleMeterRegistry(),
+				Optional.of(transport), Duration.ofHours(1), maxKeys);
+		com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder().build();
+		bus.register("places", nativeCache);
+		List<Invalidation> invalidations = new CopyOnWriteArrayList<>();
+		bus.subscribe("places", (keys, cleared) -> invalidations.add(new Invalidation(keys, cleared)));
+		bus.start();
+		Node node = new Node(bus, new BroadcastingCaffeineCache("places", nativeCache, true, bus), invalidations);
+		nodes.add(node);
+		return node;
+	}
+
+	private record Node(CacheInvalidationBus bus, BroadcastingCaffeineCache cache, List<Invalidation> invalidations) {
+	}
+
+	private record Invalidation(Set<String> keys, boolean cleared) {
+	}
+}
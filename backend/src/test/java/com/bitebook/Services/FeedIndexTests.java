@@ -0,0 +1,85 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.FeedSort;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+import com.bitebook.Repositories.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FeedIndexTests {
+
+	private final List<Place> places = new ArrayList<>();
+	private FeedIndex feedIndex;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 10; i++) {
+			places.add(place(i, i % 2 == 0 ? PlaceType.Cafe : PlaceType.Bar, i % 3 == 0));
+		}
+		PlaceRepository repository = mock(PlaceRepository.class);
+		when(repository.findAll()).thenReturn(places);
+		feedIndex = new FeedIndex();
+		new PlaceIndexes(repository, List.of(feedIndex)).rebuild();
+	}
+
+	@Test
+	void pagesThroughEveryPlaceInBothDirections() {
+		for (FeedSort sort : FeedSort.values()) {
+			List<Place> seen = new ArrayList<>();
+			FeedCursor cursor = null;
+			List<Place> page;
+			do {
+				page = feedIndex.find(null, null, sort, cursor, 3);
+				seen.addAll(page);
+				cursor = page.isEmpty() ? null : FeedCursor.from(page.getLast());
+			} while (page.size() == 3);
+
+			List<Place> expected = new ArrayList<>(places);
+			if (sort == FeedSort.Newest) {
+				Collections.reverse(expected);
+			}
+			assertThat(seen).containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	void filtersByTypeAndVisited() {
+		assertThat(feedIndex.find(PlaceType.Cafe, true, FeedSort.Newest, null, Integer.MAX_VALUE))
+				.extracting(Place::getName)
+				.containsExactly("6", "0");
+	}
+
+	@Test
+	void upsertMovesPlaceBetweenViews() {
+		Place moved = place(0, PlaceType.Bar, false);
+		moved.setPlaceId(places.getFirst().getPlaceId());
+		moved.setLastUpdatedDateTime(new Date(1_000_000));
+		feedIndex.upsert(moved);
+
+		assertThat(feedIndex.find(PlaceType.Cafe, true, FeedSort.Newest, null, Integer.MAX_VALUE))
+				.extracting(Place::getName)
+				.containsExactly("6");
+		assertThat(feedIndex.find(null, null, FeedSort.Newest, null, 1)).containsExactly(moved);
+
+		feedIndex.remove(moved.getPlaceId());
+		assertThat(feedIndex.getStats().getSize()).isEqualTo(9);
+	}
+
+	private static Place place(int index, PlaceType type, boolean visited) {
+		Place place = new Place();
+		place.setPlaceId(UUID.randomUUID());
+		place.setName(String.valueOf(index));
+		place.setType(type);
+		place.setVisited(visited);
+		place.setLastUpdatedDateTime(new Date(index * 1000L));
+		return place;
+	}
+}
@@ -0,0 +1,147 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.FeedCursor;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceChanges;
+import com.bitebook.Repositories.PlaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceChangesServiceTests {
+
+	private static final Duration SETTLE_WINDOW = Duration.ofMinutes(5);
+	private static final Duration RETENTION = Duration.ofDays(30);
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	// What the repository can load: the entity mapping hides deleted rows
+	private final Map<UUID, Place> live = new HashMap<>();
+	private PlaceChangesService changesService;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE \"Places\" (\"PlaceId\" UUID PRIMARY KEY, \"ChangedDateTime\" TIMESTAMP, \"DeletedDateTime\" TIMESTAMP)");
+
+		PlaceRepository repository = mock(PlaceRepository.class);
+		when(repository.findAllById(anyIterable())).thenAnswer(invocation -> {
+			List<Place> found = new ArrayList<>();
+			for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+				Optional.ofNullable(live.get((UUID) id)).ifPresent(found::add);
+			}
+			return found;
+		});
+
+		changesService = new PlaceChangesService();
+		ReflectionTestUtils.setField(changesService, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(changesService, "placeRepository", repository);
+		ReflectionTestUtils.setField(changesService, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(changesService, "settleWindow", SETTLE_WINDOW);
+		ReflectionTestUtils.setField(changesService, "tombstoneRetention", RETENTION);
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void returnsAWriteCommittedBehindAnAlreadyIssuedToken() {
+		Place first = write(ago(Duration.ofSeconds(1)));
+		PlaceChanges issued = changesService.GetChanges(null, 10);
+		assertThat(issued.getPlaces()).containsExactly(first);
+
+		// Stamped before the first call but committed after it, as a slow transaction would be
+		Place late = write(ago(Duration.ofMinutes(1)));
+		PlaceChanges next = changesService.GetChanges(issued.getToken(), 10);
+
+		assertThat(next.getPlaces()).contains(late);
+		assertThat(next.isReset()).isFalse();
+	}
+
+	@Test
+	void returnsADeleteAfterTheTokenAsATombstone() {
+		Place place = write(ago(Duration.ofHours(1)));
+		PlaceChanges issued = changesService.GetChanges(null, 10);
+		assertThat(issued.getPlaces()).containsExactly(place);
+
+		delete(place, ago(Duration.ofHours(1).minusMinutes(10)));
+		PlaceChanges next = changesService.GetChanges(issued.getToken(), 10);
+
+		assertThat(next.getPlaces()).isEmpty();
+		assertThat(next.getDeleted()).containsExactly(place.getPlaceId());
+	}
+
+	@Test
+	void resetsATokenOlderThanTheTombstoneRetention() {
+		Place kept = write(ago(Duration.ofDays(40)));
+		Place deleted = write(ago(Duration.ofDays(40)));
+		delete(deleted, ago(Duration.ofDays(1)));
+		String stale = new FeedCursor(ago(RETENTION.plusDays(1)), new UUID(0, 0)).encode();
+
+		PlaceChanges changes = changesService.GetChanges(stale, 10);
+
+		assertThat(changes.isReset()).isTrue();
+		assertThat(changes.getPlaces()).containsExactly(kept);
+		assertThat(changes.getDeleted()).isEmpty();
+	}
+
+	@Test
+	void pagesThroughEveryChangeOnce() {
+		List<Place> written = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			written.add(write(ago(Duration.ofHours(5 - i))));
+		}
+
+		List<Place> seen = new ArrayList<>();
+		PlaceChanges page = changesService.GetChanges(null, 2);
+		seen.addAll(page.getPlaces());
+		int calls = 1;
+		while (page.isHasMore()) {
+			assertThat(page.getPlaces()).hasSize(2);
+			page = changesService.GetChanges(page.getToken(), 2);
+			seen.addAll(page.getPlaces());
+			calls++;
+		}
+
+		assertThat(calls).isEqualTo(3);
+		assertThat(seen).containsExactlyElementsOf(written);
+	}
+
+	private Place write(Date changed) {
+		Place place = new Place();
+		place.setPlaceId(UUID.randomUUID());
+		place.setChangedDateTime(changed);
+		jdbcTemplate.update("INSERT INTO \"Places\" (\"PlaceId\", \"ChangedDateTime\") VALUES (?, ?)",
+				place.getPlaceId(), new Timestamp(changed.getTime()));
+		live.put(place.getPlaceId(), place);
+		return place;
+	}
+
+	private void delete(Place place, Date deleted) {
+		jdbcTemplate.update("UPDATE \"Places\" SET \"ChangedDateTime\" = ?, \"DeletedDateTime\" = ? WHERE \"PlaceId\" = ?",
+				new Timestamp(deleted.getTime()), new Timestamp(deleted.getTime()), place.getPlaceId());
+		live.remove(place.getPlaceId());
+	}
+
+	private static Date ago(Duration duration) {
+		return new Date(System.currentTimeMillis() - duration.toMillis());
+	}
+}
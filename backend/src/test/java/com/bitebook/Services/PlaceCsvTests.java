@@ -0,0 +1,48 @@
+package com.bitebook.Services;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlaceCsvTests {
+
+	@Test
+	void readsQuotedFieldsAcrossLinesAndSkipsBlankLines() throws Exception {
+		PlaceCsv.RecordReader reader = new PlaceCsv.RecordReader(new StringReader(
+				"name,notes,rating\r\n\r\nSpice Alley,\"cheap, \"\"great\"\"\nlaksa\",4\nEmpty,,\n"));
+
+		assertThat(reader.next()).containsExactly("name", "notes", "rating");
+		assertThat(reader.next()).containsExactly("Spice Alley", "cheap, \"great\"\nlaksa", "4");
+		assertThat(reader.getLine()).isEqualTo(3);
+		assertThat(reader.next()).containsExactly("Empty", "", "");
+		assertThat(reader.getLine()).isEqualTo(5);
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	void writesRecordsThatReadBackUnchanged() throws Exception {
+		List<Object> values = Arrays.asList("Chat Thai", null, "\"Thai\", street food", "two\r\nlines", 4.5);
+		StringWriter out = new StringWriter();
+		PlaceCsv.writeRecord(out, values);
+
+		assertThat(out.toString()).isEqualTo("Chat Thai,,\"\"\"Thai\"\", street food\",\"two\r\nlines\",4.5\r\n");
+		assertThat(new PlaceCsv.RecordReader(new StringReader(out.toString())).next())
+				.containsExactly("Chat Thai", "", "\"Thai\", street food", "two\r\nlines", "4.5");
+	}
+
+	@Test
+	void rejectsAnUnterminatedQuote() {
+		PlaceCsv.RecordReader reader = new PlaceCsv.RecordReader(new StringReader("name\n\"Open"));
+
+		assertThatThrownBy(() -> {
+			reader.next();
+			reader.next();
+		}).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("line 2");
+	}
+}
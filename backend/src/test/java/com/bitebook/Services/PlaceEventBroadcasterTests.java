@@ -0,0 +1,121 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.Place;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class PlaceEventBroadcasterTests {
+
+	private final PlaceEventBroadcaster broadcaster = new PlaceEventBroadcaster(new ObjectMapper(), new SimpleMeterRegistry(),
+			4, 3, 10, Duration.ofSeconds(20), Duration.ofMinutes(1), Duration.ofSeconds(30));
+	private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new EventsController()).build();
+
+	@Test
+	void streamsEventsAndResumesAfterTheLastEventId() throws Exception {
+		MockHttpServletResponse first = subscribe(null);
+		broadcaster.publish(place("Chat Thai"));
+		String content = awaitContent(first, body -> body.contains("Chat Thai"));
+		assertThat(content).contains("event:upserted");
+		String lastEventId = lastId(content);
+
+		broadcaster.publish(place("Spice Alley"));
+		broadcaster.publishDeleted(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+
+		MockHttpServletResponse resumed = subscribe(lastEventId);
+		String replayed = awaitContent(resumed, body -> body.contains("event:deleted"));
+		assertThat(replayed).contains("Spice Alley").doesNotContain("Chat Thai").doesNotContain("event:reset");
+	}
+
+	@Test
+	void sendsResetWhenTheGapIsNoLongerReplayable() throws Exception {
+		MockHttpServletResponse first = subscribe(null);
+		broadcaster.publish(place("Chat Thai"));
+		String lastEventId = lastId(awaitContent(first, body -> body.contains("Chat Thai")));
+		// Five more events push the one after it out of the four-event ring
+		for (int i = 0; i < 5; i++) {
+			broadcaster.publish(place("Place " + i));
+		}
+
+		String stale = awaitContent(subscribe(lastEventId), body -> body.contains("event:reset"));
+		assertThat(stale).doesNotContain("upserted");
+		assertThat(awaitContent(subscribe("someone-elses-id-3"), body -> body.contains("event:reset"))).isNotEmpty();
+	}
+
+	@Test
+	void largeBatchesBecomeOneReset() throws Exception {
+		MockHttpServletResponse response = subscribe(null);
+		broadcaster.publishAll(List.of(place("A"), place("B"), place("C")));
+		String content = awaitContent(response, body -> body.contains("event:reset"));
+		assertThat(content).doesNotContain("upserted");
+	}
+
+	@Test
+	void turnsAwaySubscribersPastTheLimitWithRetryAfter() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			assertThat(subscribe(null).getStatus()).isEqualTo(200);
+		}
+
+		MockHttpServletResponse refused = subscribe(null);
+		assertThat(refused.getStatus()).isEqualTo(503);
+		assertThat(refused.getHeader("Retry-After")).isEqualTo("30");
+	}
+
+	private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+		var request = get("/events");
+		if (lastEventId != null) {
+			request.header("Last-Event-ID", lastEventId);
+		}
+		return mvc.perform(request).andReturn().getResponse();
+	}
+
+	private static String awaitContent(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (!condition.test(response.getContentAsString()) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(response.getContentAsString()).matches(condition);
+		return response.getContentAsString();
+	}
+
+	private static String lastId(String content) {
+		Matcher matcher = Pattern.compile("^id:(\\S+)$", Pattern.MULTILINE).matcher(content);
+		String id = null;
+		while (matcher.find()) {
+			id = matcher.group(1);
+		}
+		return id;
+	}
+
+	private static Place place(String name) {
+		Place place = new Place();
+		place.setPlaceId(UUID.randomUUID());
+		place.setName(name);
+		return place;
+	}
+
+	@RestController
+	private class EventsController {
+		@GetMapping("/events")
+		SseEmitter events(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+			return broadcaster.subscribe(lastEventId);
+		}
+	}
+}
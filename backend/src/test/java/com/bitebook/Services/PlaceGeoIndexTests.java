@@ -0,0 +1,115 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.NearbyPlace;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceType;
+import com.bitebook.Repositories.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceGeoIndexTests {
+
+	private static final double SYDNEY_LAT = -33.8688;
+	private static final double SYDNEY_LNG = 151.2093;
+
+	private final List<Place> places = new ArrayList<>();
+	private PlaceGeoIndex geoIndex;
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(7);
+		for (int i = 0; i < 2000; i++) {
+			// Roughly 30 km either side of the CBD
+			places.add(place(SYDNEY_LAT + (random.nextDouble() - 0.5) * 0.6, SYDNEY_LNG + (random.nextDouble() - 0.5) * 0.6,
+					PlaceType.values()[i % PlaceType.values().length], i % 2 == 0));
+		}
+		places.add(new Place());
+		places.getLast().setPlaceId(UUID.randomUUID());
+		PlaceRepository repository = mock(PlaceRepository.class);
+		when(repository.findAll()).thenReturn(places);
+		geoIndex = new PlaceGeoIndex(0.01);
+		new PlaceIndexes(repository, List.of(geoIndex)).rebuild();
+	}
+
+	@Test
+	void matchesABruteForceScanWithinTheRadius() {
+		List<NearbyPlace> nearby = geoIndex.nearby(SYDNEY_LAT, SYDNEY_LNG, 3_000, Integer.MAX_VALUE, null, null);
+
+		List<Place> expected = places.stream()
+				.filter(p -> p.getLatitude() != null)
+				.filter(p -> distance(p) <= 3_000)
+				.sorted(Comparator.comparingDouble(this::distance))
+				.toList();
+		assertThat(nearby).extracting(NearbyPlace::getPlace).containsExactlyElementsOf(expected);
+		assertThat(nearby).isNotEmpty();
+	}
+
+	@Test
+	void returnsTheNearestMatchingPlacesWithoutARadius() {
+		List<NearbyPlace> nearby = geoIndex.nearby(SYDNEY_LAT, SYDNEY_LNG, 50_000, 5, PlaceType.Cafe, true);
+
+		List<Place> expected = places.stream()
+				.filter(p -> p.getType() == PlaceType.Cafe && Boolean.TRUE.equals(p.getVisited()))
+				.sorted(Comparator.comparingDouble(this::distance))
+				.limit(5)
+				.toList();
+		assertThat(nearby).extracting(NearbyPlace::getPlace).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void followsMovesAndRemovals() {
+		Place moved = place(SYDNEY_LAT, SYDNEY_LNG, PlaceType.Bar, null);
+		moved.setPlaceId(places.getFirst().getPlaceId());
+		geoIndex.upsert(moved);
+
+		assertThat(geoIndex.nearby(SYDNEY_LAT, SYDNEY_LNG, 1, 10, null, null))
+				.extracting(NearbyPlace::getPlace)
+				.containsExactly(moved);
+
+		geoIndex.remove(moved.getPlaceId());
+		assertThat(geoIndex.nearby(SYDNEY_LAT, SYDNEY_LNG, 1, 10, null, null)).isEmpty();
+	}
+
+	@Test
+	void findsPlacesAcrossTheAntimeridian() {
+		Place east = place(-17.0, 179.995, PlaceType.Restaurant, false);
+		geoIndex.upsert(east);
+
+		assertThat(geoIndex.nearby(-17.0, -179.995, 2_000, 10, null, null))
+				.extracting(NearbyPlace::getPlace)
+				.containsExactly(east);
+	}
+
+	@Test
+	void answersPromptlyNearAPole() {
+		Place acrossThePole = place(89.995, -30.0, PlaceType.Cafe, false);
+		geoIndex.upsert(acrossThePole);
+
+		List<NearbyPlace> nearby = assertTimeoutPreemptively(Duration.ofSeconds(2),
+				() -> geoIndex.nearby(89.99, 151.2, 2_000, 20, null, null));
+
+		assertThat(nearby).extracting(NearbyPlace::getPlace).containsExactly(acrossThePole);
+	}
+
+	private double distance(Place place) {
+		return PlaceGeoIndex.haversineMeters(SYDNEY_LAT, SYDNEY_LNG, place.getLatitude(), place.getLongitude());
+	}
+
+	private static Place place(double latitude, double longitude, PlaceType type, Boolean visited) {
+		Place place = new Place();
+		place.setPlaceId(UUID.randomUUID());
+		place.setLatitude(latitude);
+		place.setLongitude(longitude);
+		place.setType(type);
+		place.setVisited(visited);
+		return place;
+	}
+}
@@ -0,0 +1,204 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.AddPlaceRequest;
+import com.bitebook.Models.Place;
+import com.bitebook.Models.PlaceDetailsResponse;
+import com.bitebook.Models.PlacePatch;
+import com.bitebook.Models.PlacePatchResult;
+import com.bitebook.Repositories.PlaceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// Runs against an embedded H2 Places table; patches commit for real, so each test works on its own places
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"bitebook.secrets.provider=none"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlacePatchServiceTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Autowired
+	private PlaceRepository placeRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private PlacePatchService patchService;
+
+	@BeforeEach
+	void setUp() {
+		patchService = new PlacePatchService();
+		ReflectionTestUtils.setField(patchService, "jdbcTemplate", new JdbcTemplate(dataSource));
+		ReflectionTestUtils.setField(patchService, "transactionTemplate", new TransactionTemplate(transactionManager));
+		ReflectionTestUtils.setField(patchService, "placeRepository", placeRepository);
+		ReflectionTestUtils.setField(patchService, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(patchService, "placeChanges", mock(PlaceChangePublisher.class));
+	}
+
+	private PlacePatch patch(String json) throws Exception {
+		PlacePatch patch = objectMapper.readValue(json, PlacePatch.class);
+		patch.setPlaceId(UUID.randomUUID());
+		return patch;
+	}
+
+	@Test
+	void setsOnlySuppliedColumnsInColumnOrder() throws Exception {
+		Date now = new Date();
+		PlacePatchService.Update update = PlacePatchService.prepare(patch("{\"rating\": 4.5, \"visited\": true, \"notes\": null}"), now);
+
+		assertThat(update.sql()).isEqualTo("UPDATE \"Places\" SET \"Visited\" = ?, \"Notes\" = ?, \"Rating\" = ?, "
+				+ "\"Version\" = \"Version\" + 1, \"LastUpdatedDateTime\" = ?, \"ChangedDateTime\" = ? WHERE \"PlaceId\" = ? AND \"DeletedDateTime\" IS NULL");
+		assertThat(update.args()).hasSize(6).startsWith(true, null, 4.5, now, now);
+		assertThat(update.types()).containsExactly(Types.BOOLEAN, Types.VARCHAR, Types.DOUBLE, Types.TIMESTAMP, Types.TIMESTAMP, Types.OTHER);
+	}
+
+	@Test
+	void guardsOnTheVersionWhenOneIsSent() throws Exception {
+		PlacePatchService.Update update = PlacePatchService.prepare(patch("{\"version\": 3, \"visited\": true}"), new Date());
+
+		assertThat(update.sql()).endsWith("WHERE \"PlaceId\" = ? AND \"DeletedDateTime\" IS NULL AND \"Version\" = ?");
+		assertThat(update.args()[update.args().length - 1]).isEqualTo(3L);
+		assertThat(update.types()[update.types().length - 1]).isEqualTo(Types.BIGINT);
+	}
+
+	@Test
+	void rejectsUnknownFieldsWrongTypesAndClearingTheName() throws Exception {
+		assertThatThrownBy(() -> PlacePatchService.prepare(patch("{\"googlePlaceId\": \"abc\"}"), new Date()))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("googlePlaceId");
+		assertThatThrownBy(() -> PlacePatchService.prepare(patch("{\"rating\": \"five\"}"), new Date()))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("rating");
+		assertThatThrownBy(() -> PlacePatchService.prepare(patch("{\"type\": \"Spaceship\"}"), new Date()))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Spaceship");
+		assertThatThrownBy(() -> PlacePatchService.prepare(patch("{\"name\": null}"), new Date()))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("name");
+		assertThatThrownBy(() -> PlacePatchService.prepare(patch("{\"version\": 1}"), new Date()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void patchesAPlaceAndReturnsItAtItsNewVersion() throws Exception {
+		Place place = addPlace("Corner Cafe");
+
+		Place patched = patchService.PatchPlace(place.getPlaceId().toString(), patch("{\"version\": 0, \"rating\": 4.5}"));
+
+		assertThat(patched.getVersion()).isEqualTo(1L);
+		assertThat(patched.getRating()).isEqualTo(4.5);
+		assertThat(patched.getName()).isEqualTo("Corner Cafe");
+	}
+
+	@Test
+	void rejectsAPatchAtAStaleVersionWithAConflict() throws Exception {
+		Place place = addPlace("Corner Cafe");
+		patchService.PatchPlace(place.getPlaceId().toString(), patch("{\"version\": 0, \"rating\": 4.5}"));
+
+		assertThatThrownBy(() -> patchService.PatchPlace(place.getPlaceId().toString(), patch("{\"version\": 0, \"rating\": 1}")))
+				.isInstanceOf(PlaceVersionConflictException.class);
+		assertThat(placeRepository.findById(place.getPlaceId()).orElseThrow().getRating()).isEqualTo(4.5);
+	}
+
+	@Test
+	void reportsEachPatchInABatchAndSendsMatchingPatchesAsOneJdbcBatch() throws Exception {
+		Place first = addPlace("First");
+		Place stale = addPlace("Stale");
+		Place unpatchable = addPlace("Unpatchable");
+		Place last = addPlace("Last");
+
+		List<PlacePatchResult> results = patchService.PatchPlaces(List.of(
+				patch(first.getPlaceId(), "{\"version\": 0, \"visited\": true}"),
+				patch(first.getPlaceId(), "{\"version\": 0, \"notes\": \"twice\"}"),
+				patch(stale.getPlaceId(), "{\"version\": 3, \"visited\": true}"),
+				patch(UUID.randomUUID(), "{\"version\": 0, \"visited\": true}"),
+				patch(unpatchable.getPlaceId(), "{\"googlePlaceId\": \"abc\"}"),
+				patch(last.getPlaceId(), "{\"version\": 0, \"visited\": true}")));
+
+		assertThat(results).extracting(PlacePatchResult::getStatus).containsExactly(
+				PlacePatchResult.Status.Updated,
+				PlacePatchResult.Status.Invalid,
+				PlacePatchResult.Status.Conflict,
+				PlacePatchResult.Status.NotFound,
+				PlacePatchResult.Status.Invalid,
+				PlacePatchResult.Status.Updated);
+		assertThat(results.get(0).getVersion()).isEqualTo(1L);
+		assertThat(results.get(2).getVersion()).isEqualTo(0L);
+		assertThat(results.get(5).getVersion()).isEqualTo(1L);
+		assertThat(placeRepository.findById(stale.getPlaceId()).orElseThrow().getVisited()).isFalse();
+		assertThat(placeRepository.findById(first.getPlaceId()).orElseThrow().getNotes()).isNull();
+		// Every valid patch set the same columns, so they went out as one batch
+		assertThat(meterRegistry.timer("db.batch", "operation", "patch").count()).isEqualTo(1);
+	}
+
+	@Test
+	void acceptsAPatchAtTheAddedVersionAfterEnrichmentHasSaved() throws Exception {
+		Place place = addPlace("Corner Cafe");
+		enrich(place.getPlaceId());
+
+		Place patched = patchService.PatchPlace(place.getPlaceId().toString(), patch("{\"version\": 0, \"visited\": true}"));
+
+		assertThat(patched.getVersion()).isEqualTo(1L);
+		assertThat(patched.getWebsite()).isEqualTo("https://maps.example/corner");
+		assertThat(patched.getFullAddress()).isEqualTo("1 Corner St");
+	}
+
+	@Test
+	void keepsAWebsiteTheUserPatchedBeforeEnrichment() throws Exception {
+		Place place = addPlace("Corner Cafe");
+		patchService.PatchPlace(place.getPlaceId().toString(), patch("{\"version\": 0, \"website\": \"https://corner.cafe\"}"));
+		enrich(place.getPlaceId());
+
+		Place stored = placeRepository.findById(place.getPlaceId()).orElseThrow();
+		assertThat(stored.getWebsite()).isEqualTo("https://corner.cafe");
+		assertThat(stored.getVersion()).isEqualTo(1L);
+	}
+
+	// Saves Google's details through JPA, as the enrichment queue does
+	private void enrich(UUID placeId) {
+		PlaceDetailsResponse details = new PlaceDetailsResponse();
+		details.setGooglePlaceId("google-id");
+		details.setFormattedAddress("1 Corner St");
+		details.setWebsite("https://maps.example/corner");
+		details.setBusinessStatus("OPERATIONAL");
+		Place stored = placeRepository.findById(placeId).orElseThrow();
+		new PlaceEnricher().apply(stored, details);
+		placeRepository.save(stored);
+	}
+
+	private Place addPlace(String name) {
+		AddPlaceRequest request = new AddPlaceRequest();
+		request.setName(name);
+		request.setType("Cafe");
+		request.setVisited("false");
+		return placeRepository.save(FeedService.newPlace(request, new Date()));
+	}
+
+	private PlacePatch patch(UUID placeId, String json) throws Exception {
+		PlacePatch patch = objectMapper.readValue(json, PlacePatch.class);
+		patch.setPlaceId(placeId);
+		return patch;
+	}
+}
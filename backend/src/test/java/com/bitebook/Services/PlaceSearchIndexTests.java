@@ -0,0 +1,81 @@
+package com.bitebook.Services;
+
+import com.bitebook.Models.Place;
+import com.bitebook.Repositories.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceSearchIndexTests {
+
+	private PlaceSearchIndex searchIndex;
+
+	@BeforeEach
+	void setUp() {
+		List<Place> places = List.of(
+				place("Pizzeria Da Mario", "Italian", "Newtown", null, 1),
+				place("Mario's Trattoria", "Italian", "Glebe", "Great pizza on Tuesdays", 2),
+				place("Sushi Hotaru", "Japanese", "Surry Hills", null, 3),
+				place("Café Sydney", "French", "Circular Quay", "@sydneyfoodie", 4));
+		PlaceRepository repository = mock(PlaceRepository.class);
+		when(repository.findAll()).thenReturn(places);
+		searchIndex = new PlaceSearchIndex();
+		new PlaceIndexes(repository, List.of(searchIndex)).rebuild();
+	}
+
+	@Test
+	void ranksNameMatchesAboveNotesMatches() {
+		assertThat(searchIndex.search("pizz", 10))
+				.extracting(Place::getName)
+				.containsExactly("Pizzeria Da Mario", "Mario's Trattoria");
+	}
+
+	@Test
+	void matchesPrefixesSubstringsAndTypos() {
+		assertThat(names("sy")).containsExactly("Café Sydney");
+		assertThat(names("otar")).containsExactly("Sushi Hotaru");
+		assertThat(names("trattroia")).containsExactly("Mario's Trattoria");
+		assertThat(names("japanse")).containsExactly("Sushi Hotaru");
+		assertThat(names("cafe")).containsExactly("Café Sydney");
+	}
+
+	@Test
+	void requiresEveryQueryTerm() {
+		assertThat(names("mario glebe")).containsExactly("Mario's Trattoria");
+		assertThat(names("mario japanese")).isEmpty();
+	}
+
+	@Test
+	void followsUpsertsAndRemovals() {
+		Place renamed = searchIndex.search("hotaru", 1).getFirst();
+		Place copy = place("Ramen Hotaru", renamed.getCuisine(), renamed.getLocation(), null, 5);
+		copy.setPlaceId(renamed.getPlaceId());
+		searchIndex.upsert(copy);
+
+		assertThat(names("sushi")).isEmpty();
+		assertThat(names("ramen")).containsExactly("Ramen Hotaru");
+
+		searchIndex.remove(copy.getPlaceId());
+		assertThat(names("hotaru")).isEmpty();
+	}
+
+	private List<String> names(String query) {
+		return searchIndex.search(query, 10).stream().map(Place::getName).toList();
+	}
+
+	private static Place place(String name, String cuisine, String location, String notes, int updated) {
+		Place place = new Place();
+		place.setPlaceId(UUID.randomUUID());
+		place.setName(name);
+		place.setCuisine(cuisine);
+		place.setLocation(location);
+		place.setNotes(notes);
+		place.setLastUpdatedDateTime(new Date(updated * 1000L));
+		return place;
+	}
+}
@@ -71,6 +71,49 @@ export default function App() {
     fetchPlaces();
   }, []);
 
+  // Pushed changes keep the list current without refetching; "reset" means too much changed to replay
+  useEffect(() => {
+    let source: EventSource;
+    let retryTimer: number | undefined;
+    const applyChange = (change: (current: Place[]) => Place[]) => {
+      setPlaces(current => {
+        const next = change(current);
+        placesCache = { ts: Date.now(), data: next };
+        return next;
+      });
+    };
+    const connect = (reconnecting: boolean) => {
+      source = new EventSource(`${API_BASE_URL}/places/events`);
+      // A fresh stream cannot replay what was missed while disconnected
+      if (reconnecting) {
+        source.onopen = () => fetchPlaces(true);
+      }
+      source.addEventListener('upserted', (event) => {
+        const place: Place = JSON.parse((event as MessageEvent).data);
+        applyChange(current => current.some(p => p.placeId === place.placeId)
+          ? current.map(p => p.placeId === place.placeId ? place : p)
+          : [place, ...current]);
+      });
+      source.addEventListener('deleted', (event) => {
+        const { placeId } = JSON.parse((event as MessageEvent).data);
+        applyChange(current => current.filter(p => p.placeId !== placeId));
+      });
+      source.addEventListener('reset', () => fetchPlaces(true));
+      // The browser retries a dropped stream by itself but gives up on an error response, such as 503
+      // when the server has no subscriber slots left; wait a while before trying again
+      source.onerror = () => {
+        if (source.readyState === EventSource.CLOSED) {
+          retryTimer = window.setTimeout(() => connect(true), 30000 + Math.random() * 30000);
+        }
+      };
+    };
+    connect(false);
+    return () => {
+      window.clearTimeout(retryTimer);
+      source.close();
+    };
+  }, []);
+
   const handleRefresh = () => fetchPlaces(true);
 
   const handleGetPlace = async (placeId: string): Promise<Place | null> => {
@@ -121,8 +164,13 @@ export default function App() {
         throw new Error('Failed to save place');
       }
 
-      // Reload the places from backend to get the latest data
-      await fetchPlaces(true);
+      // The saved place comes back in the response, so there is no need to reload the whole list
+      const saved: Place = await response.json();
+      setPlaces(current => {
+        const next = current.some(p => p.placeId === saved.placeId) ? current : [saved, ...current];
+        placesCache = { ts: Date.now(), data: next };
+        return next;
+      });
       
       // Show success message with different variants based on the place state
       if (newPlace.visited && newPlace.rating) {
@@ -194,19 +242,15 @@ export default function App() {
     
     try {
       // Send update to backend
-      const response = await fetch(`${API_BASE_URL}/places/update/${id}`, {
-        method: 'POST',
+      const response = await fetch(`${API_BASE_URL}/places/place/${id}`, {
+        method: 'PATCH',
         headers: {
           'Content-Type': 'application/json'
         },
         body: JSON.stringify({ 
           visited,
           rating: visited ? rating : null,  // Send null to clear rating
-          notes: visited ? notes : null,    // Send null to clear notes
-          name: placeToUpdate.name,
-          type: placeToUpdate.type,
-          location: placeToUpdate.location,
-          cuisine: placeToUpdate.cuisine
+          notes: visited ? notes : null     // Send null to clear notes
         })
       });
 
@@ -240,14 +284,15 @@ export default function App() {
       // Fetch the latest place details from backend
       const latestPlace = await handleGetPlace(place.placeId);
       
-      // Use the latest data if available, otherwise fallback to the place passed in
-      setSelectedPlace(latestPlace || place);
+      // The feed only carries a preview of the notes and no Google details, so saving the dialog
+      // from the list copy would cut the notes short; only open it with the full place
+      if (!latestPlace) {
+        return;
+      }
+      setSelectedPlace(latestPlace);
       setDetailsDialogOpen(true);
     } catch (error) {
       console.error('Error in handleCardClick:', error);
-      // Still open dialog with cached data if fetch fails
-      setSelectedPlace(place);
-      setDetailsDialogOpen(true);
     }
   };
 
@@ -266,19 +311,16 @@ export default function App() {
 
     try {
       // Send update to backend
-      const response = await fetch(`${API_BASE_URL}/places/update/${id}`, {
-        method: 'POST',
+      // Only the changed fields are sent; the backend leaves everything else as it is.
+      // fullAddress comes from Google and cannot be patched, and an unset rating clears it.
+      const patch: Partial<Place> = { ...updates };
+      delete patch.fullAddress;
+      const response = await fetch(`${API_BASE_URL}/places/place/${id}`, {
+        method: 'PATCH',
         headers: {
           'Content-Type': 'application/json'
         },
-        body: JSON.stringify({
-          ...updates,
-          // Include required fields that backend expects
-          name: updates.name || placeToUpdate.name,
-          type: updates.type || placeToUpdate.type,
-          location: placeToUpdate.location,
-          cuisine: updates.cuisine !== undefined ? updates.cuisine : placeToUpdate.cuisine
-        })
+        body: JSON.stringify('rating' in patch ? { ...patch, rating: patch.rating ?? null } : patch)
       });
 
       if (!response.ok) {
@@ -12,9 +12,12 @@ export interface Place {
     lastUpdatedDateTime?: Date;
     createdDateTime?: Date;
     fullAddress?: string;
+    latitude?: number;
+    longitude?: number;
     openingHours?: { [key: string]: Array<OpeningHoursPeriod> };
     isPermanentlyClosed?: boolean;
     cuisine?: string;
+    enrichmentState?: "Pending" | "Enriched" | "Failed";
 }
 
 interface OpeningHoursPeriod {